@@ -0,0 +1,143 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator for comparing request execution modes (platform threads, virtual threads,
+ * bulkheads on or off). Each client thread picks an endpoint from a weighted mix that is heavy on image reads,
+ * fires it, records the latency and goes again until the time is up; the summary lists throughput, status
+ * counts and latency percentiles per endpoint.
+ * <p>
+ * Run against a started server, once per mode, with the same arguments:
+ * <pre>
+ *   java load-test/LoadTest.java [baseUrl=http://localhost:8080] [clients=64] [seconds=30] [label=current]
+ * </pre>
+ * The image endpoint uses the newest gallery item, so upload at least one image first.
+ */
+public class LoadTest {
+
+    private static final Pattern FIRST_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String base = arg(args, 0, "http://localhost:8080");
+        int clients = Integer.parseInt(arg(args, 1, "64"));
+        int seconds = Integer.parseInt(arg(args, 2, "30"));
+        String label = arg(args, 3, "current");
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(java.util.concurrent.Executors.newFixedThreadPool(8))
+                .build();
+        String gallery = http.send(HttpRequest.newBuilder(URI.create(base + "/api/gallery?limit=1")).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher id = FIRST_ID.matcher(gallery);
+        String image = id.find() ? "/api/gallery/" + id.group(1) + "/image" : "/api/players/1/image";
+
+        // Endpoint and weight: a burst of image reads alongside normal homepage traffic
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put(image, 60);
+        mix.put("/api/home", 15);
+        mix.put("/api/stats", 10);
+        mix.put("/api/matches", 10);
+        mix.put("/api/health", 5);
+        List<String> wheel = new ArrayList<>();
+        mix.forEach((path, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(path);
+            }
+        });
+
+        Map<String, Stats> stats = new ConcurrentHashMap<>();
+        mix.keySet().forEach(path -> stats.put(path, new Stats()));
+        long end = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            Thread client = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < end) {
+                        String path = wheel.get(ThreadLocalRandom.current().nextInt(wheel.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                                .timeout(Duration.ofSeconds(30)).build();
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        stats.get(path).record(status, System.nanoTime() - start);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + c);
+            client.start();
+        }
+        done.await();
+
+        System.out.printf("%n%s: %d clients for %ds against %s%n", label, clients, seconds, base);
+        System.out.printf("%-28s %8s %8s %6s %6s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "req/s", "503", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            long[] sorted = s.sorted();
+            total += sorted.length;
+            System.out.printf("%-28s %8d %8.1f %6d %6d %8.1f %8.1f %8.1f %8.1f%n", entry.getKey(), sorted.length,
+                    sorted.length / (double) seconds, s.unavailable, s.errors, ms(sorted, 0.50), ms(sorted, 0.95),
+                    ms(sorted, 0.99), ms(sorted, 1.0));
+        }
+        System.out.printf("%-28s %8d %8.1f%n", "total", total, total / (double) seconds);
+        System.exit(0);
+    }
+
+    private static String arg(String[] args, int index, String fallback) {
+        return args.length > index ? args[index] : fallback;
+    }
+
+    private static double ms(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static class Stats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int unavailable;
+        private int errors;
+
+        synchronized void record(int status, long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status == 503) {
+                unavailable++;
+            } else if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
+@org.springframework.scheduling.annotation.EnableScheduling
 @org.springframework.boot.autoconfigure.domain.EntityScan(basePackages = "com.spartans.cricket.model")
 @org.springframework.data.jpa.repository.config.EnableJpaRepositories(basePackages = "com.spartans.cricket.repository")
 public class SpartansCricketApplication {
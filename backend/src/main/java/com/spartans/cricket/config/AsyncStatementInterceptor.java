@@ -0,0 +1,25 @@
+package com.spartans.cricket.config;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Records the statements an async request runs on the MVC task executor, such as a streamed export body, which
+ * never passes the thread {@link RequestMetricsFilter} records on. The filter adds them to the request's totals on
+ * the async dispatch that follows.
+ */
+class AsyncStatementInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        StatementTracker.start();
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        request.setAttribute(RequestMetricsFilter.ASYNC, StatementTracker.stop(), RequestAttributes.SCOPE_REQUEST);
+    }
+}
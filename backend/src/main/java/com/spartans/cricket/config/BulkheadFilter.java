@@ -0,0 +1,168 @@
+package com.spartans.cricket.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Caps how many requests of each endpoint group run at once, so one kind of traffic cannot take every worker
+ * thread and database connection. A burst of image reads then queues behind its own limit while the homepage,
+ * stats and form submissions carry on; {@code /api/health} is never limited.
+ * <p>
+ * Each group's permits default to a share of the Hikari pool ({@code spartans.bulkhead.<group>} overrides it).
+ * A request waits up to {@code spartans.bulkhead.wait-ms} for a permit and is then refused with 503 and
+ * Retry-After. This matters most with {@code spring.threads.virtual.enabled}, where Tomcat no longer has a fixed
+ * thread count and these limits are what stands between a spike and the connection pool. Streaming responses
+ * (live scores, exports) give their permit back once the stream has been handed off. Chunk uploads are not
+ * limited: they hold no connection, only a long network transfer.
+ * <p>
+ * Accepted and rejected requests are counted as {@code spartans.bulkhead.accepted} and
+ * {@code spartans.bulkhead.rejected}, permits in use as {@code spartans.bulkhead.active}, each tagged by group.
+ */
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public enum Group {
+        IMAGES(0.5), PUBLIC_READS(1.0), ADMIN_WRITES(0.3), SUBMISSIONS(0.3);
+
+        private final double poolShare;
+
+        Group(double poolShare) {
+            this.poolShare = poolShare;
+        }
+    }
+
+    private static final Pattern CHUNK = Pattern.compile("/api/uploads/[^/]+/files/\\d+");
+
+    private final Map<Group, Bulkhead> bulkheads = new EnumMap<>(Group.class);
+
+    @Value("${spartans.bulkhead.wait-ms:250}")
+    private long waitMs;
+
+    @Value("${spartans.bulkhead.enabled:true}")
+    private boolean enabled;
+
+    public BulkheadFilter(Environment environment, MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        for (Group group : Group.values()) {
+            String key = "spartans.bulkhead." + group.name().toLowerCase().replace('_', '-');
+            int permits = environment.getProperty(key, Integer.class, 0);
+            if (permits <= 0) {
+                permits = Math.max(1, (int) Math.ceil(poolSize * group.poolShare));
+            }
+            Bulkhead bulkhead = new Bulkhead(permits);
+            bulkheads.put(group, bulkhead);
+            String tag = group.name().toLowerCase();
+            FunctionCounter.builder("spartans.bulkhead.accepted", bulkhead.accepted, LongAdder::sum)
+                    .description("Requests that got a bulkhead permit")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("spartans.bulkhead.rejected", bulkhead.rejected, LongAdder::sum)
+                    .description("Requests refused with 503 after waiting for a bulkhead permit")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+            Gauge.builder("spartans.bulkhead.active", bulkhead,
+                            b -> b.permits - b.semaphore.availablePermits())
+                    .description("Bulkhead permits in use")
+                    .tag("group", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Group group = enabled ? classify(request.getMethod(), request.getRequestURI()) : null;
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Bulkhead bulkhead = bulkheads.get(group);
+        boolean acquired;
+        try {
+            acquired = bulkhead.semaphore.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            bulkhead.rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "Too many " + group.name().toLowerCase().replace('_', ' ') + " requests, try again shortly");
+            return;
+        }
+        bulkhead.accepted.increment();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            bulkhead.semaphore.release();
+        }
+    }
+
+    static Group classify(String method, String path) {
+        if (!path.startsWith("/api/") || path.equals("/api/health") || "OPTIONS".equals(method)) {
+            return null;
+        }
+        // Chunk bodies stream to disk without a database connection, so they do not count against the pool
+        if ("PUT".equals(method) && CHUNK.matcher(path).matches()) {
+            return null;
+        }
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        if (read) {
+            return path.endsWith("/image") ? Group.IMAGES : Group.PUBLIC_READS;
+        }
+        if ("POST".equals(method) && (path.equals("/api/register") || path.equals("/api/join")
+                || path.equals("/api/auth/login"))) {
+            return Group.SUBMISSIONS;
+        }
+        return Group.ADMIN_WRITES;
+    }
+
+    /**
+     * Permits, current use and accepted/rejected counts per group since startup.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        bulkheads.forEach((group, bulkhead) -> {
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("permits", bulkhead.permits);
+            counters.put("inUse", bulkhead.permits - bulkhead.semaphore.availablePermits());
+            counters.put("waiting", bulkhead.semaphore.getQueueLength());
+            counters.put("accepted", bulkhead.accepted.sum());
+            counters.put("rejected", bulkhead.rejected.sum());
+            stats.put(group.name().toLowerCase(), counters);
+        });
+        return stats;
+    }
+
+    private static class Bulkhead {
+        final int permits;
+        final Semaphore semaphore;
+        final LongAdder accepted = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        Bulkhead(int permits) {
+            this.permits = permits;
+            this.semaphore = new Semaphore(permits, true);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.spartans.cricket.config;
 
-import com.spartans.cricket.model.ClubStats;
 import com.spartans.cricket.model.MatchFixture;
 import com.spartans.cricket.model.Player;
 import com.spartans.cricket.repository.MatchFixtureRepository;
@@ -20,7 +19,6 @@ public class DataInitializer {
 
         @Bean
         CommandLineRunner initData(PlayerRepository playerRepository, MatchFixtureRepository matchRepository,
-                        com.spartans.cricket.repository.ClubStatsRepository clubStatsRepository,
                         AchievementRepository achievementRepository,
                         org.springframework.jdbc.core.JdbcTemplate jdbcTemplate) {
                 return args -> {
@@ -32,6 +30,14 @@ public class DataInitializer {
                                 jdbcTemplate.execute(
                                                 "UPDATE player SET legal_consent = FALSE WHERE legal_consent IS NULL");
 
+                                // Career aggregate columns are NOT NULL, so existing players need a default
+                                for (String column : List.of("batting_innings", "batting_runs", "dismissals", "balls_faced",
+                                                "high_score", "balls_bowled", "runs_conceded", "bowling_wickets", "best_wickets",
+                                                "best_wickets_runs")) {
+                                        jdbcTemplate.execute("ALTER TABLE player ADD COLUMN IF NOT EXISTS " + column
+                                                        + " INTEGER NOT NULL DEFAULT 0");
+                                }
+
                                 // Fix Schema: Registration
                                 jdbcTemplate.execute(
                                                 "ALTER TABLE registration ADD COLUMN IF NOT EXISTS status VARCHAR(255) DEFAULT 'NEW'");
@@ -39,10 +45,38 @@ public class DataInitializer {
                                                 "ALTER TABLE registration ADD COLUMN IF NOT EXISTS legal_consent BOOLEAN DEFAULT FALSE");
                                 jdbcTemplate.execute(
                                                 "ALTER TABLE registration ADD COLUMN IF NOT EXISTS created_at TIMESTAMP");
+                                // Keyset pagination orders by created_at, so older rows need one
+                                jdbcTemplate.execute(
+                                                "UPDATE registration SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL");
+                                // Albums are looked up by exact category/sub-category, the UI always showed blanks as General
+                                jdbcTemplate.execute(
+                                                "UPDATE gallery_item SET sub_category = 'General' WHERE sub_category IS NULL");
+                                jdbcTemplate.execute(
+                                                "UPDATE gallery_item SET category = 'General' WHERE category IS NULL");
                         } catch (Exception e) {
                                 System.out.println("Schema update warning (might already exist): " + e.getMessage());
                         }
 
+                        // Player, fixture and gallery ids come from pooled sequences (blocks of 50). Tables filled while
+                        // they were identity columns need the sequence moved past their ids before anything is inserted.
+                        // It is only ever moved forward: another instance may already hold blocks above MAX(id), and a
+                        // restart back to MAX(id) + 50 would hand those ids out twice. Costs one skipped block per boot.
+                        for (String table : List.of("player", "match_fixture", "gallery_item")) {
+                                try {
+                                        Long maxId = jdbcTemplate.queryForObject(
+                                                        "SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+                                        Long next = jdbcTemplate.queryForObject(
+                                                        "SELECT nextval('" + table + "_seq')", Long.class);
+                                        if (maxId > 0 && next < maxId + 50) {
+                                                jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH "
+                                                                + (maxId + 50));
+                                                System.out.println("Moved " + table + "_seq forward past id " + maxId);
+                                        }
+                                } catch (Exception e) {
+                                        System.out.println("Sequence update warning for " + table + ": " + e.getMessage());
+                                }
+                        }
+
                         // Init Players
                         if (playerRepository.count() == 0) {
                                 List<Player> players = List.of(
@@ -114,11 +148,6 @@ public class DataInitializer {
                                                                 "Coastal Ground", "Completed", "Lost by 3 wickets"));
                                 matchRepository.saveAll(matches);
                         }
-                        // Init Club Stats
-                        if (clubStatsRepository.count() == 0) {
-                                clubStatsRepository.save(new ClubStats(null, 50, 120, 5));
-                        }
-
                         // Init Achievements
                         try {
                                 if (achievementRepository.count() == 0) {
@@ -0,0 +1,141 @@
+package com.spartans.cricket.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-request metrics that Spring's own {@code http.server.requests} timer does not cover:
+ * <ul>
+ * <li>{@code spartans.db.statements} and {@code spartans.db.rows}: JDBC statements run and rows read for the
+ * request (see {@link StatementTracker}), by method and URI template, so an endpoint that quietly turns into
+ * hundreds of queries shows up;</li>
+ * <li>{@code spartans.images.served}: bytes sent by the player and gallery {@code /image} endpoints, by type and
+ * requested rendition. 304s send nothing and are not counted.</li>
+ * </ul>
+ * A request that runs more than {@code spartans.sql.budget} statements, or the same statement
+ * {@code spartans.sql.repeat-threshold} times (an N+1 in the making), is logged with the SQL it ran.
+ * <p>
+ * An async request is recorded once, when its async dispatch ends. Its totals include what a streamed body (the
+ * exports) ran on the MVC task executor, which {@link AsyncStatementInterceptor} records there. Server-sent events
+ * are written by {@code LiveMatchStream}'s own threads from in-memory state and run no SQL.
+ */
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Set<String> RENDITIONS = Set.of("thumb", "card", "full", "original");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spartans.sql.budget:20}")
+    private int budget;
+
+    @Value("${spartans.sql.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    // Recordings of an async request's earlier parts, summed when its last dispatch ends
+    static final String EARLIER = RequestMetricsFilter.class.getName() + ".earlier";
+    static final String ASYNC = RequestMetricsFilter.class.getName() + ".async";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementTracker.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            StatementTracker.Recording sql = StatementTracker.stop();
+            addEarlier(request, sql, EARLIER);
+            addEarlier(request, sql, ASYNC);
+            if (request.isAsyncStarted()) {
+                request.setAttribute(EARLIER, sql);
+            } else {
+                record(request, response, sql);
+            }
+        }
+    }
+
+    private static void addEarlier(HttpServletRequest request, StatementTracker.Recording sql, String attribute) {
+        if (request.getAttribute(attribute) instanceof StatementTracker.Recording earlier) {
+            request.removeAttribute(attribute);
+            sql.add(earlier);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, StatementTracker.Recording sql) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "none";
+        DistributionSummary.builder("spartans.db.statements")
+                .description("JDBC statements run per request")
+                .baseUnit("statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(sql.getStatements());
+        DistributionSummary.builder("spartans.db.rows")
+                .description("Result rows read per request")
+                .baseUnit("rows")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(sql.getRows());
+        checkBudget(request.getMethod() + " " + uri, sql);
+        if (uri.endsWith("/image")) {
+            recordImageBytes(request, response, uri);
+        }
+    }
+
+    private void checkBudget(String endpoint, StatementTracker.Recording sql) {
+        Map<String, Integer> repeated = sql.getRepeated(repeatThreshold);
+        if (sql.getStatements() <= budget && repeated.isEmpty()) {
+            return;
+        }
+        StringBuilder warning = new StringBuilder("SQL budget: " + endpoint + " ran " + sql.getStatements()
+                + " statement(s) (budget " + budget + "), read " + sql.getRows() + " row(s), "
+                + sql.getElapsedMillis() + "ms in the database");
+        repeated.forEach((statement, times) -> warning.append("\n  possible N+1, ran ").append(times)
+                .append(" times: ").append(statement));
+        System.out.println(warning.append(sql.describe()));
+    }
+
+    private void recordImageBytes(HttpServletRequest request, HttpServletResponse response, String uri) {
+        String length = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+        int status = response.getStatus();
+        if (length == null || (status != HttpServletResponse.SC_OK && status != HttpServletResponse.SC_PARTIAL_CONTENT)) {
+            return;
+        }
+        String rendition = request.getParameter("r");
+        rendition = rendition != null && RENDITIONS.contains(rendition.toLowerCase(Locale.ROOT))
+                ? rendition.toLowerCase(Locale.ROOT)
+                : request.getParameter("w") != null ? "width" : "default";
+        DistributionSummary.builder("spartans.images.served")
+                .description("Bytes sent per image response")
+                .baseUnit("bytes")
+                .tags("type", uri.startsWith("/api/gallery") ? "gallery" : "player", "rendition", rendition)
+                .register(meterRegistry)
+                .record(Long.parseLong(length));
+    }
+}
@@ -0,0 +1,38 @@
+package com.spartans.cricket.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlTrackingConfig {
+
+    // Wraps the pool so every statement and result row passes StatementTracker; spartans.sql.tracking.enabled=false
+    // leaves it unwrapped, spartans.sql.count-rows=false skips the per-row cost of proxying result sets
+    @Bean
+    static BeanPostProcessor statementTrackingDataSource(Environment environment) {
+        boolean enabled = environment.getProperty("spartans.sql.tracking.enabled", Boolean.class, true);
+        boolean countRows = environment.getProperty("spartans.sql.count-rows", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                StatementTracker tracker = new StatementTracker();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(tracker);
+                if (countRows) {
+                    builder.methodListener(tracker).proxyResultSet();
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.spartans.cricket.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the JDBC statements executed and rows read on the current thread between {@link #start()} and
+ * {@link #stop()}, whether they come from Hibernate, Spring Data or {@code JdbcTemplate}. Fed by the proxy
+ * {@link SqlTrackingConfig} puts around the DataSource; {@link RequestMetricsFilter} records one per request, and
+ * {@link AsyncStatementInterceptor} one for the part of an async request that runs on the MVC task executor.
+ * <p>
+ * Recordings nest, so a test can measure a whole MockMvc call while the filter measures the request inside it. A
+ * JDBC batch is one statement. Rows are counted as successful {@code ResultSet.next()} calls, which needs the
+ * result sets proxied too ({@code spartans.sql.count-rows}).
+ */
+public class StatementTracker implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    public static Recording start() {
+        Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    /**
+     * Ends the innermost recording on this thread and returns it; an enclosing one carries on.
+     */
+    public static Recording stop() {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return new Recording(null);
+        }
+        if (recording.parent != null) {
+            CURRENT.set(recording.parent);
+        } else {
+            CURRENT.remove();
+        }
+        return recording;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (Recording recording = CURRENT.get(); recording != null; recording = recording.parent) {
+            for (QueryInfo query : queryInfoList) {
+                recording.statement(query.getQuery(), execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                        execInfo.getElapsedTime());
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            for (Recording recording = CURRENT.get(); recording != null; recording = recording.parent) {
+                recording.rows++;
+            }
+        }
+    }
+
+    /**
+     * What one thread ran: the statement count, rows read, time spent in the database and the SQL itself (the
+     * first {@value #MAX_LISTED} statements, plus how often each distinct statement ran).
+     */
+    public static class Recording {
+
+        static final int MAX_LISTED = 100;
+
+        private final Recording parent;
+        private int statements;
+        private long rows;
+        private long elapsedMillis;
+        private final List<String> listed = new ArrayList<>();
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+
+        private Recording(Recording parent) {
+            this.parent = parent;
+        }
+
+        private void statement(String sql, int batchSize, long millis) {
+            statements++;
+            elapsedMillis += millis;
+            counts.merge(sql, 1, Integer::sum);
+            if (listed.size() < MAX_LISTED) {
+                listed.add(batchSize > 0 ? sql + " [batch of " + batchSize + "]" : sql);
+            }
+        }
+
+        // Folds in what another thread ran for the same request
+        void add(Recording other) {
+            statements += other.statements;
+            rows += other.rows;
+            elapsedMillis += other.elapsedMillis;
+            other.counts.forEach((sql, count) -> counts.merge(sql, count, Integer::sum));
+            for (String sql : other.listed) {
+                if (listed.size() == MAX_LISTED) {
+                    break;
+                }
+                listed.add(sql);
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * Statements that ran at least {@code times} times, with their count: the usual sign of an N+1 query.
+         */
+        public Map<String, Integer> getRepeated(int times) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            counts.forEach((sql, count) -> {
+                if (count >= times) {
+                    repeated.put(sql, count);
+                }
+            });
+            return repeated;
+        }
+
+        // The statements in order, one per line, for logs and assertion messages
+        public String describe() {
+            StringBuilder out = new StringBuilder();
+            for (int i = 0; i < listed.size(); i++) {
+                out.append(String.format("%n  %3d. %s", i + 1, listed.get(i)));
+            }
+            if (statements > listed.size()) {
+                out.append(String.format("%n  ... and %d more", statements - listed.size()));
+            }
+            return out.toString();
+        }
+    }
+}
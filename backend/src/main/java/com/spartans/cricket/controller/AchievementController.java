@@ -1,12 +1,15 @@
 package com.spartans.cricket.controller;
 
+import com.spartans.cricket.event.ContentChangedEvent;
 import com.spartans.cricket.model.Achievement;
 import com.spartans.cricket.repository.AchievementRepository;
+import com.spartans.cricket.service.JsonSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/achievements")
 public class AchievementController {
@@ -14,27 +17,43 @@ public class AchievementController {
     @Autowired
     private AchievementRepository achievementRepository;
 
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Autowired
+    private JsonSnapshotService jsonSnapshotService;
+
     @GetMapping
-    public List<Achievement> getAllAchievements() {
-        return achievementRepository.findAll();
+    public ResponseEntity<byte[]> getAllAchievements(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return SnapshotResponses.serve(jsonSnapshotService.get("achievements",
+                achievementRepository::findAll, Achievement.class), acceptEncoding);
     }
 
     @PostMapping
     public Achievement addAchievement(@RequestBody Achievement achievement) {
-        return achievementRepository.save(achievement);
+        Achievement saved = achievementRepository.save(achievement);
+        events.publishEvent(ContentChangedEvent.created(saved));
+        return saved;
     }
 
     @PutMapping("/{id}")
     public Achievement updateAchievement(@PathVariable Long id, @RequestBody Achievement achievementDetails) {
         Achievement achievement = achievementRepository.findById(id).orElseThrow();
+        Achievement before = ContentChangedEvent.copyOf(achievement);
         achievement.setTitle(achievementDetails.getTitle());
         achievement.setAchievementYear(achievementDetails.getAchievementYear());
         achievement.setType(achievementDetails.getType());
-        return achievementRepository.save(achievement);
+        Achievement saved = achievementRepository.save(achievement);
+        events.publishEvent(ContentChangedEvent.updated(before, saved));
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void deleteAchievement(@PathVariable Long id) {
-        achievementRepository.deleteById(id);
+        achievementRepository.findById(id).ifPresent(achievement -> {
+            achievementRepository.delete(achievement);
+            events.publishEvent(ContentChangedEvent.deleted(achievement));
+        });
     }
 }
@@ -0,0 +1,25 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.config.BulkheadFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+public class BulkheadStatsController {
+
+    @Autowired
+    private BulkheadFilter bulkheadFilter;
+
+    // Per endpoint group: permits, how many are in use or waiting, and how many requests were let in or refused
+    @GetMapping("/api/bulkheads")
+    public Map<String, Object> bulkheadStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("virtualThreads", Thread.currentThread().toString().startsWith("VirtualThread"));
+        response.put("groups", bulkheadFilter.getStats());
+        return response;
+    }
+}
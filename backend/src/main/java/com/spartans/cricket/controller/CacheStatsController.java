@@ -0,0 +1,51 @@
+package com.spartans.cricket.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+public class CacheStatsController {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Hit/miss counters per second-level cache region, plus how often Hibernate still had to go to the database
+    @GetMapping("/api/cache/stats")
+    public Map<String, Object> cacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new TreeMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("hits", region.getHitCount());
+            counters.put("misses", region.getMissCount());
+            counters.put("puts", region.getPutCount());
+            regions.put(name, counters);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("since", statistics.getStart());
+        response.put("secondLevelHits", statistics.getSecondLevelCacheHitCount());
+        response.put("secondLevelMisses", statistics.getSecondLevelCacheMissCount());
+        response.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        response.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        response.put("queriesExecuted", statistics.getQueryExecutionCount());
+        response.put("entitiesLoaded", statistics.getEntityLoadCount());
+        response.put("entitiesFetched", statistics.getEntityFetchCount());
+        response.put("regions", regions);
+        return response;
+    }
+}
@@ -1,8 +1,11 @@
 package com.spartans.cricket.controller;
 
 import com.spartans.cricket.model.ClubStats;
-import com.spartans.cricket.repository.ClubStatsRepository;
+import com.spartans.cricket.service.ClubStatsService;
+import com.spartans.cricket.service.JsonSnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -10,24 +13,21 @@ import org.springframework.web.bind.annotation.*;
 public class ClubStatsController {
 
     @Autowired
-    private ClubStatsRepository clubStatsRepository;
+    private ClubStatsService clubStatsService;
+
+    @Autowired
+    private JsonSnapshotService jsonSnapshotService;
 
     @GetMapping
-    public ClubStats getStats() {
-        return clubStatsRepository.findAll().stream().findFirst().orElse(null);
+    public ResponseEntity<byte[]> getStats(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return SnapshotResponses.serve(jsonSnapshotService.get("stats", clubStatsService::get, ClubStats.class),
+                acceptEncoding);
     }
 
-    @PostMapping
-    public ClubStats updateStats(@RequestBody ClubStats stats) {
-        // Ensure we only have one record
-        ClubStats existing = clubStatsRepository.findAll().stream().findFirst().orElse(null);
-        if (existing != null) {
-            existing.setMatchesWon(stats.getMatchesWon());
-            existing.setActivePlayers(stats.getActivePlayers());
-            existing.setChampionships(stats.getChampionships());
-            return clubStatsRepository.save(existing);
-        } else {
-            return clubStatsRepository.save(stats);
-        }
+    // Stats are derived from fixtures, players and achievements; this recounts them from scratch
+    @PostMapping("/rebuild")
+    public ClubStats rebuildStats() {
+        return clubStatsService.rebuild();
     }
 }
@@ -0,0 +1,52 @@
+package com.spartans.cricket.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page: its sort timestamp (when the list is ordered by one) and its id.
+ * Encoded as URL-safe base64 so clients treat it as opaque.
+ */
+final class Cursor {
+
+    private final LocalDateTime at;
+    private final long id;
+
+    private Cursor(LocalDateTime at, long id) {
+        this.at = at;
+        this.id = id;
+    }
+
+    static String encode(Long id) {
+        return encode(null, id);
+    }
+
+    static String encode(LocalDateTime at, Long id) {
+        String raw = (at != null ? at.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String at = raw.substring(0, separator);
+            return new Cursor(at.isEmpty() ? null : LocalDateTime.parse(at), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    LocalDateTime getAt() {
+        return at;
+    }
+
+    long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,39 @@
+package com.spartans.cricket.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets (?fields=id,name,imageUrl) for the summary read models.
+ */
+public final class FieldSets {
+
+    public static final String FILTER_ID = "fields";
+
+    private FieldSets() {
+    }
+
+    /**
+     * Wraps a response body so only the requested properties are serialized.
+     * Without a fields parameter the body is returned untouched.
+     */
+    public static Object select(Object body, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        return value;
+    }
+}
@@ -1,11 +1,22 @@
 package com.spartans.cricket.controller;
 
+import com.spartans.cricket.event.ContentChangedEvent;
 import com.spartans.cricket.model.GalleryItem;
 import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.GallerySummary;
+import com.spartans.cricket.service.MediaJob;
+import com.spartans.cricket.service.MediaJobService;
+import com.spartans.cricket.storage.ImageService;
+import com.spartans.cricket.storage.ImageStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -16,55 +27,82 @@ public class GalleryController {
     @Autowired
     private GalleryRepository galleryRepository;
 
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private MediaJobService mediaJobService;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
     @GetMapping
-    public List<GalleryItem> getAllGalleryItems() {
-        return galleryRepository.findAll();
+    public Object getAllGalleryItems(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String subCategory,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+        int size = CursorPage.clampLimit(limit);
+        Limit fetch = Limit.of(size + 1);
+        Long beforeId = cursor != null ? Cursor.decode(cursor).getId() : null;
+        List<GallerySummary> rows;
+        if (category != null && subCategory != null) {
+            rows = beforeId == null
+                    ? galleryRepository.findAlbumPage(category, subCategory, fetch)
+                    : galleryRepository.findAlbumPageBefore(category, subCategory, beforeId, fetch);
+        } else {
+            rows = beforeId == null
+                    ? galleryRepository.findSummaryPage(fetch)
+                    : galleryRepository.findSummaryPageBefore(beforeId, fetch);
+        }
+        return FieldSets.select(CursorPage.of(rows, size, item -> Cursor.encode(item.getId())), fields);
     }
 
     @GetMapping("/{id}/image")
-    public org.springframework.http.ResponseEntity<byte[]> getGalleryImage(@PathVariable Long id) {
-        GalleryItem item = galleryRepository.findById(id).orElse(null);
-        if (item != null && item.getImageData() != null) {
-            return org.springframework.http.ResponseEntity.ok()
-                    .contentType(org.springframework.http.MediaType.parseMediaType(
-                            item.getImageContentType() != null ? item.getImageContentType() : "image/jpeg"))
-                    .body(item.getImageData());
-        }
-        return org.springframework.http.ResponseEntity.notFound().build();
+    public ResponseEntity<Resource> getGalleryImage(@PathVariable Long id,
+            @RequestParam(required = false) String v,
+            @RequestParam(required = false) Integer w,
+            @RequestParam(required = false) String r) {
+        return ImageResponses.serve(imageStore, galleryRepository.findImageById(id), v, w, r);
     }
 
+    // Answers 202 with a job to poll at /api/jobs/{id}; the item is saved once its image has been processed
     @PostMapping
-    public GalleryItem createGalleryItem(
+    public ResponseEntity<MediaJob> createGalleryItem(
             @RequestParam("image") MultipartFile image,
             @RequestParam(value = "caption", required = false) String caption,
             @RequestParam("category") String category,
             @RequestParam(value = "subCategory", required = false) String subCategory) throws java.io.IOException {
 
-        GalleryItem item = new GalleryItem();
-        item.setCaption(caption != null ? caption : "");
-        item.setCategory(category);
-        item.setSubCategory(subCategory != null ? subCategory : "General");
-
-        if (image != null && !image.isEmpty()) {
-            item.setImageData(image.getBytes());
-            item.setImageContentType(image.getContentType());
+        if (image == null || image.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "image is required");
         }
+        MediaJob job = mediaJobService.submit("gallery", image, stored -> {
+            GalleryItem item = new GalleryItem();
+            item.setCaption(caption != null ? caption : "");
+            item.setCategory(category);
+            item.setSubCategory(subCategory != null ? subCategory : "General");
+            item.setImageHash(stored.getHash());
+            item.setImageContentType(stored.getContentType());
 
-        GalleryItem savedItem = galleryRepository.save(item);
-        if (savedItem.getImageData() != null) {
-            savedItem.setImageUrl("/api/gallery/" + savedItem.getId() + "/image");
-            return galleryRepository.save(savedItem);
-        }
-
-        return savedItem;
+            GalleryItem saved = galleryRepository.save(item);
+            events.publishEvent(ContentChangedEvent.created(saved));
+            return saved.getId();
+        });
+        return JobController.accepted(job);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteGalleryItem(@PathVariable Long id) {
-        if (galleryRepository.existsById(id)) {
-            galleryRepository.deleteById(id);
-            return ResponseEntity.ok().build();
-        }
-        return ResponseEntity.notFound().build();
+        return galleryRepository.findById(id).map(item -> {
+            galleryRepository.delete(item);
+            imageService.release(item.getImageHash());
+            events.publishEvent(ContentChangedEvent.deleted(item));
+            return ResponseEntity.ok().<Void>build();
+        }).orElse(ResponseEntity.notFound().build());
     }
 }
@@ -1,5 +1,8 @@
 package com.spartans.cricket.controller;
 
+import com.spartans.cricket.service.HomeSnapshot;
+import com.spartans.cricket.service.HomeSnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -10,6 +13,9 @@ import java.util.Map;
 @RestController
 public class HomeController {
 
+    @Autowired
+    private HomeSnapshotService homeSnapshotService;
+
     @GetMapping("/api/welcome")
     public Map<String, String> welcome() {
         Map<String, String> response = new HashMap<>();
@@ -18,6 +24,12 @@ public class HomeController {
         return response;
     }
 
+    // Stats, squad, fixtures, achievements and album covers for the public homepage in one response
+    @GetMapping("/api/home")
+    public HomeSnapshot home() {
+        return homeSnapshotService.get();
+    }
+
     @GetMapping("/api/health")
     public String healthCheck() {
         return "OK";
@@ -0,0 +1,106 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.repository.ImageRef;
+import com.spartans.cricket.storage.ImageStore;
+import com.spartans.cricket.storage.Rendition;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Builds image responses that stream the stored file instead of reading it into memory.
+ * <p>
+ * The content hash doubles as a strong ETag. A request carrying the current hash as {@code ?v=} can be cached
+ * forever; any other request must revalidate, and Spring answers a matching {@code If-None-Match} or
+ * {@code If-Modified-Since} with a 304 without opening the file.
+ * <p>
+ * {@code ?r=thumb|card|full} or {@code ?w=<pixels>} pick a rendition; without either the full-width rendition is
+ * served. The original upload is only returned, as a download, for {@code ?r=original}.
+ */
+final class ImageResponses {
+
+    static final String ORIGINAL = "original";
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private ImageResponses() {
+    }
+
+    static ResponseEntity<Resource> serve(ImageStore imageStore, Optional<ImageRef> ref, String version,
+            Integer width, String rendition) {
+        String hash = ref.map(ImageRef::getImageHash).orElse(null);
+        if (hash == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String originalType = ref.get().getImageContentType() != null ? ref.get().getImageContentType() : "image/jpeg";
+
+        if (!ORIGINAL.equalsIgnoreCase(rendition)) {
+            Rendition requested = rendition != null
+                    ? Rendition.fromKey(rendition).orElse(Rendition.FULL)
+                    : width != null ? Rendition.forWidth(width) : Rendition.FULL;
+            for (Rendition candidate : Rendition.values()) {
+                if (candidate.compareTo(requested) < 0) {
+                    continue;
+                }
+                Optional<Resource> resource = imageStore.loadRendition(hash, candidate);
+                if (resource.isPresent()) {
+                    return ok(resource.get(), hash + "-" + candidate.key(), hash.equals(version),
+                            Rendition.contentTypeFor(originalType)).body(resource.get());
+                }
+            }
+        }
+
+        // No rendition is wider than a small original, so the original itself is the best fit
+        Optional<Resource> original = imageStore.load(hash);
+        if (original.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ok(original.get(), hash, hash.equals(version), originalType);
+        if (ORIGINAL.equalsIgnoreCase(rendition)) {
+            response.header(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(hash + extensionFor(originalType)).build().toString());
+        }
+        return response.body(original.get());
+    }
+
+    private static ResponseEntity.BodyBuilder ok(Resource resource, String etag, boolean versioned, String contentType) {
+        return ResponseEntity.ok()
+                .cacheControl(versioned ? IMMUTABLE : REVALIDATE)
+                .eTag(etag)
+                .lastModified(lastModified(resource))
+                .contentType(MediaType.parseMediaType(contentType));
+    }
+
+    // So a downloaded original opens as an image; unknown types keep the bare hash
+    private static String extensionFor(String contentType) {
+        return switch (contentType.toLowerCase(Locale.ROOT)) {
+            case "image/jpeg", "image/jpg", "image/pjpeg" -> ".jpg";
+            case "image/png" -> ".png";
+            case "image/gif" -> ".gif";
+            case "image/webp" -> ".webp";
+            case "image/bmp" -> ".bmp";
+            case "image/svg+xml" -> ".svg";
+            case "image/heic" -> ".heic";
+            case "image/avif" -> ".avif";
+            case "image/tiff" -> ".tiff";
+            default -> "";
+        };
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
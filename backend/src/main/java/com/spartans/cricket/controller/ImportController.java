@@ -0,0 +1,40 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.service.ImportReport;
+import com.spartans.cricket.service.ImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    // kind is players or fixtures. The body is streamed, not buffered: send it as text/csv (with a header line)
+    // or application/x-ndjson, or name the format explicitly with ?format=csv|ndjson
+    @PostMapping("/{kind}")
+    public ImportReport importRows(@PathVariable String kind,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            HttpServletRequest request) throws java.io.IOException {
+        return importService.importRows(kind, format(format, request.getContentType()), request.getInputStream(),
+                dryRun);
+    }
+
+    private static String format(String format, String contentType) {
+        String hint = format != null ? format : contentType != null ? contentType : "";
+        if (hint.contains("csv")) {
+            return "csv";
+        }
+        if (hint.contains("ndjson") || hint.contains("jsonl") || hint.contains("json")) {
+            return "ndjson";
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                "Send text/csv or application/x-ndjson, or pass ?format=csv|ndjson");
+    }
+}
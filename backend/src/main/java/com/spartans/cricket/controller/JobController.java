@@ -0,0 +1,30 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.service.MediaJob;
+import com.spartans.cricket.service.MediaJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    @Autowired
+    private MediaJobService mediaJobService;
+
+    // Poll until status is DONE (entityId is then set) or FAILED (error says why)
+    @GetMapping("/{id}")
+    public MediaJob getJob(@PathVariable String id) {
+        return mediaJobService.find(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No such job " + id));
+    }
+
+    static ResponseEntity<MediaJob> accepted(MediaJob job) {
+        return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+    }
+}
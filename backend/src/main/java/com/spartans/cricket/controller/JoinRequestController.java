@@ -2,10 +2,15 @@ package com.spartans.cricket.controller;
 
 import com.spartans.cricket.model.JoinRequest;
 import com.spartans.cricket.repository.JoinRequestRepository;
+import com.spartans.cricket.service.DedupeService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/join")
@@ -15,13 +20,21 @@ public class JoinRequestController {
     @Autowired
     private JoinRequestRepository repository;
 
+    @Autowired
+    private DedupeService dedupeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @PostMapping
-    public JoinRequest submitRequest(@RequestBody JoinRequestDTO request) {
+    public ResponseEntity<?> submitRequest(@RequestBody JoinRequestDTO request,
+            @RequestParam(defaultValue = "false") boolean force) {
         // Honeypot check
         if (request.getWebsite() != null && !request.getWebsite().isEmpty()) {
             // Robotic attack detected. Log and ignore.
             System.out.println("Bot detected via honeypot: " + request.getName());
-            return new JoinRequest(); // Return empty success
+            meterRegistry.counter("spartans.join.honeypot.rejections").increment();
+            return ResponseEntity.ok(new JoinRequest()); // Return empty success
         }
 
         JoinRequest entity = new JoinRequest();
@@ -33,15 +46,41 @@ public class JoinRequestController {
         entity.setMessage(request.getMessage());
         entity.setLegalConsent(request.isLegalConsent());
 
-        return repository.save(entity);
+        // Same contract as registrations: 409 with the number of earlier requests unless forced
+        dedupeService.applyKeys(entity);
+        if (!force) {
+            long count = dedupeService.countDuplicates(entity.getEmailKey(), entity.getPhoneKey());
+            if (count > 0) {
+                return ResponseEntity.status(409).body(Map.of(
+                        "duplicate", true,
+                        "count", count,
+                        "message", "Duplicate details found"));
+            }
+        }
+        JoinRequest saved = repository.save(entity);
+        dedupeService.remember(saved.getEmailKey(), saved.getPhoneKey());
+        return ResponseEntity.ok(saved);
     }
 
     @GetMapping
-    public List<JoinRequest> getAllRequests(@RequestParam(required = false) String status) {
-        if (status != null) {
-            return repository.findByStatusOrderByCreatedAtDesc(status);
+    public CursorPage<JoinRequest> getAllRequests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        Limit fetch = Limit.of(size + 1);
+        List<JoinRequest> rows;
+        if (cursor == null) {
+            rows = status != null
+                    ? repository.findByStatusOrderByCreatedAtDescIdDesc(status, fetch)
+                    : repository.findByOrderByCreatedAtDescIdDesc(fetch);
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = status != null
+                    ? repository.findPageBeforeByStatus(status, position.getAt(), position.getId(), fetch)
+                    : repository.findPageBefore(position.getAt(), position.getId(), fetch);
         }
-        return repository.findAllByOrderByCreatedAtDesc();
+        return CursorPage.of(rows, size, request -> Cursor.encode(request.getCreatedAt(), request.getId()));
     }
 
     @PutMapping("/{id}/process")
@@ -1,11 +1,20 @@
 package com.spartans.cricket.controller;
 
+import com.spartans.cricket.event.ContentChangedEvent;
 import com.spartans.cricket.model.MatchFixture;
 import com.spartans.cricket.repository.MatchFixtureRepository;
+import com.spartans.cricket.service.JsonSnapshotService;
+import com.spartans.cricket.service.LiveMatchStream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/matches")
@@ -14,29 +23,87 @@ public class MatchFixtureController {
     @Autowired
     private MatchFixtureRepository matchFixtureRepository;
 
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Autowired
+    private LiveMatchStream liveMatchStream;
+
+    @Autowired
+    private JsonSnapshotService jsonSnapshotService;
+
+    // The first unfiltered page at the default size is what every visitor loads; it is kept serialized until a
+    // fixture changes. Status and search filters are applied here so the fixtures page never needs the whole table.
     @GetMapping
-    public List<MatchFixture> getAllMatches() {
-        return matchFixtureRepository.findAll();
+    public Object getAllMatches(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String q,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        int size = CursorPage.clampLimit(limit);
+        String statusFilter = status == null || status.isBlank() || status.equals("All") ? null : status;
+        String pattern = q == null || q.isBlank() ? null : likePattern(q.trim());
+        if (statusFilter != null || pattern != null) {
+            Long before = cursor == null ? Long.MAX_VALUE : Cursor.decode(cursor).getId();
+            List<MatchFixture> rows = matchFixtureRepository.findFilteredPageBefore(statusFilter, pattern, before,
+                    Limit.of(size + 1));
+            return CursorPage.of(rows, size, match -> Cursor.encode(match.getId()));
+        }
+        if (cursor == null && size == CursorPage.DEFAULT_LIMIT) {
+            return SnapshotResponses.serve(jsonSnapshotService.get("matches",
+                    () -> page(null, size), MatchFixture.class), acceptEncoding);
+        }
+        return page(cursor, size);
+    }
+
+    private CursorPage<MatchFixture> page(String cursor, int size) {
+        List<MatchFixture> rows = cursor == null
+                ? matchFixtureRepository.findByOrderByIdDesc(Limit.of(size + 1))
+                : matchFixtureRepository.findByIdLessThanOrderByIdDesc(Cursor.decode(cursor).getId(), Limit.of(size + 1));
+        return CursorPage.of(rows, size, match -> Cursor.encode(match.getId()));
+    }
+
+    // Substring match; the user's own %, _ and \ are taken literally
+    private static String likePattern(String search) {
+        String escaped = search.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // Live score updates as Server-Sent Events; browsers resend Last-Event-ID when they reconnect
+    @GetMapping(path = "/live/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter liveStream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return liveMatchStream.subscribe(lastEventId);
     }
 
     @PostMapping
     public MatchFixture addMatch(@RequestBody MatchFixture match) {
-        return matchFixtureRepository.save(match);
+        MatchFixture saved = matchFixtureRepository.save(match);
+        events.publishEvent(ContentChangedEvent.created(saved));
+        return saved;
     }
 
     @PutMapping("/{id}")
     public MatchFixture updateMatch(@PathVariable Long id, @RequestBody MatchFixture matchDetails) {
         MatchFixture match = matchFixtureRepository.findById(id).orElseThrow();
+        MatchFixture before = ContentChangedEvent.copyOf(match);
         match.setOpponent(matchDetails.getOpponent());
         match.setMatchDate(matchDetails.getMatchDate());
         match.setVenue(matchDetails.getVenue());
         match.setStatus(matchDetails.getStatus());
         match.setResult(matchDetails.getResult());
-        return matchFixtureRepository.save(match);
+        MatchFixture saved = matchFixtureRepository.save(match);
+        events.publishEvent(ContentChangedEvent.updated(before, saved));
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void deleteMatch(@PathVariable Long id) {
-        matchFixtureRepository.deleteById(id);
+        matchFixtureRepository.findById(id).ifPresent(match -> {
+            matchFixtureRepository.delete(match);
+            events.publishEvent(ContentChangedEvent.deleted(match));
+        });
     }
 }
@@ -1,12 +1,24 @@
 package com.spartans.cricket.controller;
 
+import com.spartans.cricket.event.ContentChangedEvent;
 import com.spartans.cricket.model.Player;
 import com.spartans.cricket.repository.PlayerRepository;
+import com.spartans.cricket.service.JsonSnapshotService;
+import com.spartans.cricket.service.LeaderboardEntry;
+import com.spartans.cricket.service.LeaderboardService;
+import com.spartans.cricket.service.MediaJobService;
+import com.spartans.cricket.storage.ImageService;
+import com.spartans.cricket.storage.ImageStore;
+import com.spartans.cricket.storage.StoredImage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-
-import java.util.List;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/players")
@@ -15,99 +27,163 @@ public class PlayerController {
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private MediaJobService mediaJobService;
+
+    @Autowired
+    private JsonSnapshotService jsonSnapshotService;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
     @GetMapping
-    public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+    public Object getAllPlayers(@RequestParam(required = false) String fields) {
+        return FieldSets.select(playerRepository.findAllSummaries(), fields);
+    }
+
+    // The public squad page; kept serialized until a player changes
+    @GetMapping("/approved")
+    public ResponseEntity<byte[]> getApprovedPlayers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return SnapshotResponses.serve(jsonSnapshotService.get("approved-players",
+                playerRepository::findApprovedSummaries, Player.class), acceptEncoding);
+    }
+
+    // Served from the in-memory rankings; no season means career figures
+    @GetMapping("/leaderboard")
+    public java.util.List<LeaderboardEntry> getLeaderboard(
+            @RequestParam(defaultValue = "runs") String metric,
+            @RequestParam(required = false) Integer season,
+            @RequestParam(defaultValue = "10") int limit) {
+        return leaderboardService.top(LeaderboardService.Metric.parse(metric), season,
+                Math.max(1, Math.min(limit, 100)));
+    }
+
+    @GetMapping("/leaderboard/seasons")
+    public java.util.List<Integer> getLeaderboardSeasons() {
+        return leaderboardService.getSeasons();
+    }
+
+    // Single-row read; career figures are kept on the player row by PlayerPerformanceService
+    @GetMapping("/{id}")
+    public Player getPlayer(@PathVariable Long id) {
+        return playerRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Player not found"));
     }
 
     @GetMapping("/{id}/image")
-    public org.springframework.http.ResponseEntity<byte[]> getPlayerImage(@PathVariable Long id) {
-        Player player = playerRepository.findById(id).orElse(null);
-        if (player != null && player.getImageData() != null) {
-            return org.springframework.http.ResponseEntity.ok()
-                    .contentType(org.springframework.http.MediaType.parseMediaType(
-                            player.getImageContentType() != null ? player.getImageContentType() : "image/jpeg"))
-                    .body(player.getImageData());
-        }
-        return org.springframework.http.ResponseEntity.notFound().build();
+    public ResponseEntity<Resource> getPlayerImage(@PathVariable Long id,
+            @RequestParam(required = false) String v,
+            @RequestParam(required = false) Integer w,
+            @RequestParam(required = false) String r) {
+        return ImageResponses.serve(imageStore, playerRepository.findImageById(id), v, w, r);
     }
 
+    // With an image this answers 202 and a job to poll at /api/jobs/{id}; the player is saved once the image is ready
     @PostMapping
-    public Player addPlayer(
+    public ResponseEntity<?> addPlayer(
             @RequestParam("name") String name,
             @RequestParam("role") String role,
             @RequestParam("battingStyle") String battingStyle,
             @RequestParam("bowlingStyle") String bowlingStyle,
-            @RequestParam("matches") int matches,
-            @RequestParam(value = "runs", required = false, defaultValue = "0") int runs,
-            @RequestParam(value = "wickets", required = false, defaultValue = "0") int wickets,
             @RequestParam(value = "image", required = false) MultipartFile image) throws java.io.IOException {
 
+        if (image != null && !image.isEmpty()) {
+            return JobController.accepted(mediaJobService.submit("player", image,
+                    stored -> createPlayer(name, role, battingStyle, bowlingStyle, stored).getId()));
+        }
+        return ResponseEntity.ok(createPlayer(name, role, battingStyle, bowlingStyle, null));
+    }
+
+    private Player createPlayer(String name, String role, String battingStyle, String bowlingStyle,
+            StoredImage stored) {
         Player player = new Player();
         player.setName(name);
         player.setRole(role);
         player.setBattingStyle(battingStyle);
         player.setBowlingStyle(bowlingStyle);
-        player.setMatches(matches);
-        player.setRuns(runs);
-        player.setWickets(wickets);
 
-        if (image != null && !image.isEmpty()) {
-            player.setImageData(image.getBytes());
-            player.setImageContentType(image.getContentType());
+        if (stored != null) {
+            player.setImageHash(stored.getHash());
+            player.setImageContentType(stored.getContentType());
         }
 
         // Default approved to false for new registrations
         player.setApproved(false);
 
-        Player savedPlayer = playerRepository.save(player);
-        if (savedPlayer.getImageData() != null) {
-            savedPlayer.setImageUrl("/api/players/" + savedPlayer.getId() + "/image");
-            return playerRepository.save(savedPlayer);
-        }
-
-        return savedPlayer;
+        Player saved = playerRepository.save(player);
+        events.publishEvent(ContentChangedEvent.created(saved));
+        return saved;
     }
 
     @PutMapping("/{id}/approve")
     public Player approvePlayer(@PathVariable Long id) {
         Player player = playerRepository.findById(id).orElseThrow();
+        Player before = ContentChangedEvent.copyOf(player);
         player.setApproved(true);
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        events.publishEvent(ContentChangedEvent.updated(before, saved));
+        return saved;
     }
 
+    // Same as addPlayer: a new image makes this a 202 job, and the changes are applied when it finishes
     @PutMapping("/{id}")
-    public Player updatePlayer(
+    public ResponseEntity<?> updatePlayer(
             @PathVariable Long id,
             @RequestParam("name") String name,
             @RequestParam("role") String role,
             @RequestParam("battingStyle") String battingStyle,
             @RequestParam("bowlingStyle") String bowlingStyle,
-            @RequestParam("matches") int matches,
-            @RequestParam(value = "runs", required = false, defaultValue = "0") int runs,
-            @RequestParam(value = "wickets", required = false, defaultValue = "0") int wickets,
             @RequestParam(value = "image", required = false) MultipartFile image) throws java.io.IOException {
+        if (!playerRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No player " + id);
+        }
+        if (image != null && !image.isEmpty()) {
+            return JobController.accepted(mediaJobService.submit("player", image,
+                    stored -> changePlayer(id, name, role, battingStyle, bowlingStyle, stored).getId()));
+        }
+        return ResponseEntity.ok(changePlayer(id, name, role, battingStyle, bowlingStyle, null));
+    }
+
+    private Player changePlayer(Long id, String name, String role, String battingStyle, String bowlingStyle,
+            StoredImage stored) {
         Player player = playerRepository.findById(id).orElseThrow();
+        Player before = ContentChangedEvent.copyOf(player);
+        String previousHash = player.getImageHash();
 
-        if (image != null && !image.isEmpty()) {
-            player.setImageData(image.getBytes());
-            player.setImageContentType(image.getContentType());
-            player.setImageUrl("/api/players/" + id + "/image");
+        if (stored != null) {
+            player.setImageHash(stored.getHash());
+            player.setImageContentType(stored.getContentType());
         }
 
         player.setName(name);
         player.setRole(role);
         player.setBattingStyle(battingStyle);
         player.setBowlingStyle(bowlingStyle);
-        player.setMatches(matches);
-        player.setRuns(runs);
-        player.setWickets(wickets);
 
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        if (previousHash != null && !previousHash.equals(saved.getImageHash())) {
+            imageService.release(previousHash);
+        }
+        events.publishEvent(ContentChangedEvent.updated(before, saved));
+        return saved;
     }
 
     @DeleteMapping("/{id}")
     public void deletePlayer(@PathVariable Long id) {
-        playerRepository.deleteById(id);
+        playerRepository.findById(id).ifPresent(player -> {
+            playerRepository.delete(player);
+            imageService.release(player.getImageHash());
+            events.publishEvent(ContentChangedEvent.deleted(player));
+        });
     }
 }
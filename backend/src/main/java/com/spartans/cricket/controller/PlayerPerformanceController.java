@@ -0,0 +1,53 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.model.PlayerPerformance;
+import com.spartans.cricket.repository.PlayerPerformanceRepository;
+import com.spartans.cricket.service.PlayerPerformanceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+public class PlayerPerformanceController {
+
+    @Autowired
+    private PlayerPerformanceService performanceService;
+
+    @Autowired
+    private PlayerPerformanceRepository performanceRepository;
+
+    @GetMapping("/players/{playerId}/performances")
+    public CursorPage<PlayerPerformance> getPlayerPerformances(@PathVariable Long playerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        List<PlayerPerformance> rows = cursor == null
+                ? performanceRepository.findByPlayerIdOrderByIdDesc(playerId, Limit.of(size + 1))
+                : performanceRepository.findByPlayerIdAndIdLessThanOrderByIdDesc(playerId,
+                        Cursor.decode(cursor).getId(), Limit.of(size + 1));
+        return CursorPage.of(rows, size, row -> Cursor.encode(row.getId()));
+    }
+
+    @GetMapping("/matches/{matchId}/performances")
+    public List<PlayerPerformance> getMatchPerformances(@PathVariable Long matchId) {
+        return performanceRepository.findByMatchIdOrderById(matchId);
+    }
+
+    @PostMapping("/performances")
+    public PlayerPerformance recordPerformance(@RequestBody PlayerPerformance performance) {
+        return performanceService.record(performance);
+    }
+
+    @PutMapping("/performances/{id}")
+    public PlayerPerformance correctPerformance(@PathVariable Long id, @RequestBody PlayerPerformance performance) {
+        return performanceService.correct(id, performance);
+    }
+
+    @DeleteMapping("/performances/{id}")
+    public void deletePerformance(@PathVariable Long id) {
+        performanceService.delete(id);
+    }
+}
@@ -2,7 +2,9 @@ package com.spartans.cricket.controller;
 
 import com.spartans.cricket.model.Registration;
 import com.spartans.cricket.repository.RegistrationRepository;
+import com.spartans.cricket.service.DedupeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.Map;
@@ -14,12 +16,15 @@ public class RegistrationController {
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private DedupeService dedupeService;
+
     @PostMapping
     public ResponseEntity<?> register(@RequestBody Registration registration,
             @RequestParam(defaultValue = "false") boolean force) {
+        dedupeService.applyKeys(registration);
         if (!force) {
-            long count = registrationRepository.countByEmailOrPhoneNumber(registration.getEmail(),
-                    registration.getPhoneNumber());
+            long count = dedupeService.countDuplicates(registration.getEmailKey(), registration.getPhoneKey());
             if (count > 0) {
                 return ResponseEntity.status(409).body(Map.of(
                         "duplicate", true,
@@ -27,12 +32,24 @@ public class RegistrationController {
                         "message", "Duplicate details found"));
             }
         }
-        return ResponseEntity.ok(registrationRepository.save(registration));
+        Registration saved = registrationRepository.save(registration);
+        dedupeService.remember(saved.getEmailKey(), saved.getPhoneKey());
+        return ResponseEntity.ok(saved);
     }
 
     @GetMapping
-    public java.util.List<Registration> getAllRegistrations() {
-        return registrationRepository.findAll();
+    public CursorPage<Registration> getAllRegistrations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        java.util.List<Registration> rows;
+        if (cursor == null) {
+            rows = registrationRepository.findByOrderByCreatedAtDescIdDesc(Limit.of(size + 1));
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = registrationRepository.findPageBefore(position.getAt(), position.getId(), Limit.of(size + 1));
+        }
+        return CursorPage.of(rows, size, reg -> Cursor.encode(reg.getCreatedAt(), reg.getId()));
     }
 
     @PutMapping("/{id}/process")
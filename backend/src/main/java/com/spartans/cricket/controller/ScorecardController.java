@@ -0,0 +1,38 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.model.BallEvent;
+import com.spartans.cricket.repository.BallEventRepository;
+import com.spartans.cricket.service.Scorecard;
+import com.spartans.cricket.service.ScoringEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/matches/{matchId}")
+public class ScorecardController {
+
+    @Autowired
+    private ScoringEngine scoringEngine;
+
+    @Autowired
+    private BallEventRepository ballEventRepository;
+
+    // Served from memory, no database access
+    @GetMapping("/scorecard")
+    public Scorecard getScorecard(@PathVariable Long matchId) {
+        return scoringEngine.getScorecard(matchId);
+    }
+
+    // Appends one delivery and returns the updated scorecard
+    @PostMapping("/balls")
+    public Scorecard recordBall(@PathVariable Long matchId, @RequestBody BallEvent ball) {
+        return scoringEngine.record(matchId, ball);
+    }
+
+    @GetMapping("/balls")
+    public List<BallEvent> getBalls(@PathVariable Long matchId) {
+        return ballEventRepository.findByMatchIdOrderBySequenceAsc(matchId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.service.SearchHit;
+import com.spartans.cricket.service.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    // Prefix match on every word of q, answered from the in-memory index; type is player, match, gallery or achievement
+    @GetMapping
+    public List<SearchHit> search(@RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "10") int limit) {
+        return searchIndex.search(q, type, Math.max(1, Math.min(limit, 50)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.service.JsonSnapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+/**
+ * Sends a {@link JsonSnapshot} as it is stored: the gzip copy to clients that accept gzip, the plain JSON to the
+ * rest. The snapshot version is a weak ETag (both encodings carry the same content), so Spring answers a
+ * matching {@code If-None-Match} with a 304 and nothing is sent at all.
+ */
+final class SnapshotResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private SnapshotResponses() {
+    }
+
+    static ResponseEntity<byte[]> serve(JsonSnapshot snapshot, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag("W/\"" + snapshot.getVersion() + "\"")
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (snapshot.getGzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
+    }
+
+    // "gzip" or "*" listed without q=0; an explicit "gzip;q=0" wins over a wildcard
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            boolean refused = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=")) {
+                    refused = quality(param.substring(2)) <= 0;
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return !refused;
+            }
+            if (coding.equals("*")) {
+                wildcard = !refused;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
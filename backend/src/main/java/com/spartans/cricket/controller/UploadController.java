@@ -0,0 +1,98 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.service.ChunkedUploadService;
+import com.spartans.cricket.service.MediaJob;
+import com.spartans.cricket.service.UploadSession;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Resumable gallery batch uploads. Start with {@code POST /api/uploads} declaring the files, send each file as raw
+ * bytes with {@code PUT /api/uploads/{id}/files/{index}?offset=} in chunks of at most {@code chunkSize} (in any
+ * order, several at once), read {@code GET /api/uploads/{id}} to see what is still missing after a dropped
+ * connection, and finish with {@code POST /api/uploads/{id}/finalize}, which answers 202 with a job to poll.
+ */
+@RestController
+@RequestMapping("/api/uploads")
+public class UploadController {
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<UploadSession> startUpload(@RequestBody UploadRequest request) throws java.io.IOException {
+        UploadSession session = chunkedUploadService.start(request.getCategory(), request.getSubCategory(),
+                request.getCaption(), request.getFiles());
+        return ResponseEntity.created(URI.create("/api/uploads/" + session.getId())).body(session);
+    }
+
+    @GetMapping("/{id}")
+    public UploadSession getUpload(@PathVariable String id) {
+        return chunkedUploadService.find(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No upload " + id));
+    }
+
+    @PutMapping("/{id}/files/{index}")
+    public UploadSession.UploadFile putChunk(@PathVariable String id, @PathVariable int index,
+            @RequestParam long offset, HttpServletRequest request) throws java.io.IOException {
+        return chunkedUploadService.writeChunk(id, index, offset, request.getContentLengthLong(),
+                request.getInputStream());
+    }
+
+    @PostMapping("/{id}/finalize")
+    public ResponseEntity<MediaJob> finalizeUpload(@PathVariable String id) {
+        return JobController.accepted(chunkedUploadService.finish(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> abortUpload(@PathVariable String id) throws java.io.IOException {
+        chunkedUploadService.abort(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    public static class UploadRequest {
+        private String category;
+        private String subCategory;
+        private String caption;
+        private List<UploadSession.FileSpec> files;
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public String getSubCategory() {
+            return subCategory;
+        }
+
+        public void setSubCategory(String subCategory) {
+            this.subCategory = subCategory;
+        }
+
+        public String getCaption() {
+            return caption;
+        }
+
+        public void setCaption(String caption) {
+            this.caption = caption;
+        }
+
+        public List<UploadSession.FileSpec> getFiles() {
+            return files;
+        }
+
+        public void setFiles(List<UploadSession.FileSpec> files) {
+            this.files = files;
+        }
+    }
+}
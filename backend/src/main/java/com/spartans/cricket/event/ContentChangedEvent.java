@@ -0,0 +1,62 @@
+package com.spartans.cricket.event;
+
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Published by the controllers after a write to club content (players, fixtures, achievements, stats, gallery).
+ * Carries a detached copy of the row before the change and the row after it, so listeners that keep derived
+ * state can apply the difference instead of re-reading tables. {@code before} is null for creates and
+ * {@code after} is null for deletes.
+ */
+public class ContentChangedEvent {
+
+    private final Class<?> type;
+    private final Object before;
+    private final Object after;
+
+    private ContentChangedEvent(Class<?> type, Object before, Object after) {
+        this.type = type;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static ContentChangedEvent created(Object after) {
+        return new ContentChangedEvent(after.getClass(), null, after);
+    }
+
+    public static ContentChangedEvent updated(Object before, Object after) {
+        return new ContentChangedEvent(after.getClass(), before, after);
+    }
+
+    public static ContentChangedEvent deleted(Object before) {
+        return new ContentChangedEvent(before.getClass(), before, null);
+    }
+
+    /**
+     * Detached shallow copy of an entity, taken before a controller mutates it.
+     */
+    public static <T> T copyOf(T entity) {
+        @SuppressWarnings("unchecked")
+        T copy = (T) BeanUtils.instantiateClass(entity.getClass());
+        BeanUtils.copyProperties(entity, copy);
+        return copy;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isAbout(Class<?> entityType) {
+        return entityType.isAssignableFrom(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getBefore() {
+        return (T) before;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getAfter() {
+        return (T) after;
+    }
+}
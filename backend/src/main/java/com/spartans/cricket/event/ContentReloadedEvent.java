@@ -0,0 +1,22 @@
+package com.spartans.cricket.event;
+
+/**
+ * Published after a bulk write (such as an import) added many rows of one type at once. Instead of one
+ * {@link ContentChangedEvent} per row, listeners that keep derived state rebuild it from the tables.
+ */
+public class ContentReloadedEvent {
+
+    private final Class<?> type;
+
+    public ContentReloadedEvent(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isAbout(Class<?> entityType) {
+        return entityType.isAssignableFrom(type);
+    }
+}
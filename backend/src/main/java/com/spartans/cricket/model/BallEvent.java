@@ -0,0 +1,154 @@
+package com.spartans.cricket.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * One delivery in a fixture's scoring log. Rows are only ever appended; {@code sequence} is the order within the
+ * fixture and the scorecard is the fold of all rows in that order.
+ */
+@Entity
+@jakarta.persistence.Table(uniqueConstraints = @jakarta.persistence.UniqueConstraint(
+        name = "uk_ball_event_match_sequence", columnNames = { "matchId", "sequence" }))
+public class BallEvent {
+
+    // Extra types; null means a fair delivery
+    public static final String WIDE = "WIDE";
+    public static final String NO_BALL = "NO_BALL";
+    public static final String BYE = "BYE";
+    public static final String LEG_BYE = "LEG_BYE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long matchId;
+    private int sequence;
+    private int innings = 1;
+    private String batter;
+    private String bowler;
+    private int runs; // off the bat
+    private int extras;
+    private String extraType;
+    private boolean wicket;
+    private String dismissal; // e.g. "bowled", "caught", "run out"
+    private String dismissedBatter; // defaults to the batter on strike
+    private LocalDateTime recordedAt;
+
+    @jakarta.persistence.PrePersist
+    protected void onCreate() {
+        if (recordedAt == null) {
+            recordedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isLegalDelivery() {
+        return !WIDE.equals(extraType) && !NO_BALL.equals(extraType);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(int sequence) {
+        this.sequence = sequence;
+    }
+
+    public int getInnings() {
+        return innings;
+    }
+
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+
+    public String getBatter() {
+        return batter;
+    }
+
+    public void setBatter(String batter) {
+        this.batter = batter;
+    }
+
+    public String getBowler() {
+        return bowler;
+    }
+
+    public void setBowler(String bowler) {
+        this.bowler = bowler;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    public int getExtras() {
+        return extras;
+    }
+
+    public void setExtras(int extras) {
+        this.extras = extras;
+    }
+
+    public String getExtraType() {
+        return extraType;
+    }
+
+    public void setExtraType(String extraType) {
+        this.extraType = extraType;
+    }
+
+    public boolean isWicket() {
+        return wicket;
+    }
+
+    public void setWicket(boolean wicket) {
+        this.wicket = wicket;
+    }
+
+    public String getDismissal() {
+        return dismissal;
+    }
+
+    public void setDismissal(String dismissal) {
+        this.dismissal = dismissal;
+    }
+
+    public String getDismissedBatter() {
+        return dismissedBatter;
+    }
+
+    public void setDismissedBatter(String dismissedBatter) {
+        this.dismissedBatter = dismissedBatter;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
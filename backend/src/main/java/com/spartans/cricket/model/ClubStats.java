@@ -6,6 +6,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
+@jakarta.persistence.Cacheable
+@org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 public class ClubStats {
 
     @Id
@@ -15,6 +17,9 @@ public class ClubStats {
     private int activePlayers;
     private int championships;
 
+    // Set when the counters were last recounted from fixtures, players and achievements
+    private java.time.LocalDateTime rebuiltAt;
+
     public ClubStats() {
     }
 
@@ -56,4 +61,12 @@ public class ClubStats {
     public void setChampionships(int championships) {
         this.championships = championships;
     }
+
+    public java.time.LocalDateTime getRebuiltAt() {
+        return rebuiltAt;
+    }
+
+    public void setRebuiltAt(java.time.LocalDateTime rebuiltAt) {
+        this.rebuiltAt = rebuiltAt;
+    }
 }
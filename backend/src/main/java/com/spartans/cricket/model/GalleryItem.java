@@ -6,9 +6,14 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
+@jakarta.persistence.Table(indexes = {
+        @jakarta.persistence.Index(name = "idx_gallery_image_hash", columnList = "imageHash"),
+        @jakarta.persistence.Index(name = "idx_gallery_album", columnList = "category, subCategory, id")
+})
 public class GalleryItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gallery_item_seq")
+    @jakarta.persistence.SequenceGenerator(name = "gallery_item_seq", sequenceName = "gallery_item_seq", allocationSize = 50)
     private Long id;
     private String category;
     private String subCategory;
@@ -16,9 +21,13 @@ public class GalleryItem {
 
     @jakarta.persistence.Lob
     @jakarta.persistence.Column(length = 1000000)
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private byte[] imageData;
     private String imageContentType;
 
+    @jakarta.persistence.Column(length = 64)
+    private String imageHash;
+
     private String caption;
 
     public GalleryItem() {
@@ -54,7 +63,11 @@ public class GalleryItem {
         this.subCategory = subCategory;
     }
 
+    // Uploaded images are addressed by content hash so the URL changes whenever the image does
     public String getImageUrl() {
+        if (imageHash != null && id != null) {
+            return "/api/gallery/" + id + "/image?v=" + imageHash;
+        }
         return imageUrl;
     }
 
@@ -85,4 +98,12 @@ public class GalleryItem {
     public void setImageContentType(String imageContentType) {
         this.imageContentType = imageContentType;
     }
+
+    public String getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(String imageHash) {
+        this.imageHash = imageHash;
+    }
 }
@@ -4,6 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_join_request_created", columnList = "createdAt, id"),
+        @Index(name = "idx_join_request_status_created", columnList = "status, createdAt, id"),
+        @Index(name = "idx_join_request_email_key", columnList = "emailKey"),
+        @Index(name = "idx_join_request_phone_key", columnList = "phoneKey")
+})
 public class JoinRequest {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +28,12 @@ public class JoinRequest {
     private boolean legalConsent;
     private LocalDateTime createdAt;
 
+    // Canonical contact details used for duplicate checks, filled in by DedupeService
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private String emailKey;
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private String phoneKey;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -105,4 +117,20 @@ public class JoinRequest {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public String getEmailKey() {
+        return emailKey;
+    }
+
+    public void setEmailKey(String emailKey) {
+        this.emailKey = emailKey;
+    }
+
+    public String getPhoneKey() {
+        return phoneKey;
+    }
+
+    public void setPhoneKey(String phoneKey) {
+        this.phoneKey = phoneKey;
+    }
 }
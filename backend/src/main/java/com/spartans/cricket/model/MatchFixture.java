@@ -7,10 +7,14 @@ import jakarta.persistence.Id;
 import java.time.LocalDateTime;
 
 @Entity
+@jakarta.persistence.Cacheable
+@org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 public class MatchFixture {
 
+    // Pooled sequence rather than identity so bulk imports can batch their inserts; see DataInitializer
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_fixture_seq")
+    @jakarta.persistence.SequenceGenerator(name = "match_fixture_seq", sequenceName = "match_fixture_seq", allocationSize = 50)
     private Long id;
     private String opponent;
     private LocalDateTime matchDate;
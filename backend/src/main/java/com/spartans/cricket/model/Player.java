@@ -6,10 +6,15 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
+@jakarta.persistence.Cacheable
+@org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
+@jakarta.persistence.Table(indexes = @jakarta.persistence.Index(name = "idx_player_image_hash", columnList = "imageHash"))
 public class Player {
 
+    // Pooled sequence rather than identity so bulk imports can batch their inserts; see DataInitializer
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_seq")
+    @jakarta.persistence.SequenceGenerator(name = "player_seq", sequenceName = "player_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String role;
@@ -22,12 +27,30 @@ public class Player {
 
     @jakarta.persistence.Lob
     @jakarta.persistence.Column(length = 1000000) // Increase limit for large images
+    @com.fasterxml.jackson.annotation.JsonIgnore
     private byte[] imageData;
     private String imageContentType;
+
+    @jakarta.persistence.Column(length = 64)
+    private String imageHash;
     private boolean approved = false;
     private boolean legalConsent = false;
     private java.time.LocalDateTime createdAt;
 
+    // Career aggregates kept up to date by PlayerPerformanceService (columns added to old tables by DataInitializer).
+    // matches/runs/wickets above also receive every delta but may start from hand-entered totals, so the averages
+    // use the figures below, which only ever come from recorded performances.
+    private int battingInnings;
+    private int battingRuns;
+    private int dismissals;
+    private int ballsFaced;
+    private int highScore;
+    private int ballsBowled;
+    private int runsConceded;
+    private int bowlingWickets;
+    private int bestWickets;
+    private int bestWicketsRuns;
+
     @jakarta.persistence.PrePersist
     protected void onCreate() {
         createdAt = java.time.LocalDateTime.now();
@@ -130,7 +153,11 @@ public class Player {
         this.wickets = wickets;
     }
 
+    // Uploaded images are addressed by content hash so the URL changes whenever the image does
     public String getImageUrl() {
+        if (imageHash != null && id != null) {
+            return "/api/players/" + id + "/image?v=" + imageHash;
+        }
         return imageUrl;
     }
 
@@ -161,4 +188,118 @@ public class Player {
     public void setApproved(boolean approved) {
         this.approved = approved;
     }
+
+    public String getImageHash() {
+        return imageHash;
+    }
+
+    public void setImageHash(String imageHash) {
+        this.imageHash = imageHash;
+    }
+
+    public int getBattingInnings() {
+        return battingInnings;
+    }
+
+    public void setBattingInnings(int battingInnings) {
+        this.battingInnings = battingInnings;
+    }
+
+    public int getBattingRuns() {
+        return battingRuns;
+    }
+
+    public void setBattingRuns(int battingRuns) {
+        this.battingRuns = battingRuns;
+    }
+
+    public int getDismissals() {
+        return dismissals;
+    }
+
+    public void setDismissals(int dismissals) {
+        this.dismissals = dismissals;
+    }
+
+    public int getBallsFaced() {
+        return ballsFaced;
+    }
+
+    public void setBallsFaced(int ballsFaced) {
+        this.ballsFaced = ballsFaced;
+    }
+
+    public int getHighScore() {
+        return highScore;
+    }
+
+    public void setHighScore(int highScore) {
+        this.highScore = highScore;
+    }
+
+    public int getBallsBowled() {
+        return ballsBowled;
+    }
+
+    public void setBallsBowled(int ballsBowled) {
+        this.ballsBowled = ballsBowled;
+    }
+
+    public int getRunsConceded() {
+        return runsConceded;
+    }
+
+    public void setRunsConceded(int runsConceded) {
+        this.runsConceded = runsConceded;
+    }
+
+    public int getBowlingWickets() {
+        return bowlingWickets;
+    }
+
+    public void setBowlingWickets(int bowlingWickets) {
+        this.bowlingWickets = bowlingWickets;
+    }
+
+    public int getBestWickets() {
+        return bestWickets;
+    }
+
+    public void setBestWickets(int bestWickets) {
+        this.bestWickets = bestWickets;
+    }
+
+    public int getBestWicketsRuns() {
+        return bestWicketsRuns;
+    }
+
+    public void setBestWicketsRuns(int bestWicketsRuns) {
+        this.bestWicketsRuns = bestWicketsRuns;
+    }
+
+    // Derived figures; null until there is something to divide by
+
+    public Double getBattingAverage() {
+        return dismissals == 0 ? null : round((double) battingRuns / dismissals);
+    }
+
+    public Double getStrikeRate() {
+        return ballsFaced == 0 ? null : round(battingRuns * 100.0 / ballsFaced);
+    }
+
+    public Double getEconomy() {
+        return ballsBowled == 0 ? null : round(runsConceded * 6.0 / ballsBowled);
+    }
+
+    public Double getBowlingAverage() {
+        return bowlingWickets == 0 ? null : round((double) runsConceded / bowlingWickets);
+    }
+
+    public String getBestFigures() {
+        return bestWickets == 0 ? null : bestWickets + "/" + bestWicketsRuns;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
 }
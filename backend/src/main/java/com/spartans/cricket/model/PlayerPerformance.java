@@ -0,0 +1,112 @@
+package com.spartans.cricket.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+/**
+ * One player's figures in one fixture. Adding, correcting or deleting a row adjusts the career aggregates on
+ * {@link Player} by the difference only.
+ */
+@Entity
+@jakarta.persistence.Table(uniqueConstraints = @jakarta.persistence.UniqueConstraint(
+        name = "uk_performance_player_match", columnNames = { "playerId", "matchId" }), indexes = {
+        @jakarta.persistence.Index(name = "idx_performance_match", columnList = "matchId"),
+        @jakarta.persistence.Index(name = "idx_performance_player_runs", columnList = "playerId, runs"),
+        @jakarta.persistence.Index(name = "idx_performance_player_bowling", columnList = "playerId, wickets, runsConceded")
+})
+public class PlayerPerformance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long playerId;
+    private Long matchId;
+
+    // Batting
+    private int runs;
+    private int ballsFaced;
+    private boolean out;
+
+    // Bowling
+    private int ballsBowled; // legal deliveries
+    private int runsConceded;
+    private int wickets;
+
+    public boolean hasBatted() {
+        return ballsFaced > 0 || out;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    public int getBallsFaced() {
+        return ballsFaced;
+    }
+
+    public void setBallsFaced(int ballsFaced) {
+        this.ballsFaced = ballsFaced;
+    }
+
+    public boolean isOut() {
+        return out;
+    }
+
+    public void setOut(boolean out) {
+        this.out = out;
+    }
+
+    public int getBallsBowled() {
+        return ballsBowled;
+    }
+
+    public void setBallsBowled(int ballsBowled) {
+        this.ballsBowled = ballsBowled;
+    }
+
+    public int getRunsConceded() {
+        return runsConceded;
+    }
+
+    public void setRunsConceded(int runsConceded) {
+        this.runsConceded = runsConceded;
+    }
+
+    public int getWickets() {
+        return wickets;
+    }
+
+    public void setWickets(int wickets) {
+        this.wickets = wickets;
+    }
+}
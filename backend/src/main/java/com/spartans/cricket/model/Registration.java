@@ -9,6 +9,11 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
+@jakarta.persistence.Table(indexes = {
+        @jakarta.persistence.Index(name = "idx_registration_created", columnList = "createdAt, id"),
+        @jakarta.persistence.Index(name = "idx_registration_email_key", columnList = "emailKey"),
+        @jakarta.persistence.Index(name = "idx_registration_phone_key", columnList = "phoneKey")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,6 +31,12 @@ public class Registration {
     private Boolean legalConsent;
     private java.time.LocalDateTime createdAt;
 
+    // Canonical contact details used for duplicate checks, filled in by DedupeService
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private String emailKey;
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private String phoneKey;
+
     @jakarta.persistence.PrePersist
     public void prePersist() {
         if (createdAt == null) {
@@ -107,4 +118,20 @@ public class Registration {
     public void setExperienceLevel(String experienceLevel) {
         this.experienceLevel = experienceLevel;
     }
+
+    public String getEmailKey() {
+        return emailKey;
+    }
+
+    public void setEmailKey(String emailKey) {
+        this.emailKey = emailKey;
+    }
+
+    public String getPhoneKey() {
+        return phoneKey;
+    }
+
+    public void setPhoneKey(String phoneKey) {
+        this.phoneKey = phoneKey;
+    }
 }
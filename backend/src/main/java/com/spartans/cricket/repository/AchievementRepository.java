@@ -1,7 +1,19 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.Achievement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
+
+    @Override
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.achievements") })
+    List<Achievement> findAll();
+
+    List<Achievement> findByType(String type);
 }
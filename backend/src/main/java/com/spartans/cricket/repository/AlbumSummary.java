@@ -0,0 +1,15 @@
+package com.spartans.cricket.repository;
+
+/**
+ * A gallery album (category + sub-category) with its size and the id of its cover image.
+ */
+public interface AlbumSummary {
+
+    String getCategory();
+
+    String getSubCategory();
+
+    long getImageCount();
+
+    Long getCoverId();
+}
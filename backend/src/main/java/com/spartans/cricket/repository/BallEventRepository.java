@@ -0,0 +1,20 @@
+package com.spartans.cricket.repository;
+
+import com.spartans.cricket.model.BallEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface BallEventRepository extends JpaRepository<BallEvent, Long> {
+
+    // Uses the (matchId, sequence) unique index
+    List<BallEvent> findByMatchIdOrderBySequenceAsc(Long matchId);
+
+    @Query("select distinct b.matchId from BallEvent b")
+    List<Long> findScoredMatchIds();
+
+    @Transactional
+    void deleteByMatchId(Long matchId);
+}
@@ -1,7 +1,17 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.ClubStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface ClubStatsRepository extends JpaRepository<ClubStats, Long> {
+
+    @Override
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.club-stats") })
+    List<ClubStats> findAll();
 }
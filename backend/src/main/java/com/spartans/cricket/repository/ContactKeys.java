@@ -0,0 +1,11 @@
+package com.spartans.cricket.repository;
+
+/**
+ * The canonical email and phone of one registration or join request.
+ */
+public interface ContactKeys {
+
+    String getEmailKey();
+
+    String getPhoneKey();
+}
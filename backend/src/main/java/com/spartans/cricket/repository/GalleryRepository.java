@@ -1,12 +1,60 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.GalleryItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GalleryRepository extends JpaRepository<GalleryItem, Long> {
     List<GalleryItem> findByCategory(String category);
+
+    String SUMMARY = "select g.id as id, g.category as category, g.subCategory as subCategory, "
+            + "case when g.imageHash is not null then concat('/api/gallery/', cast(g.id as String), '/image?v=', g.imageHash) "
+            + "else g.imageUrl end as imageUrl, g.imageContentType as imageContentType, g.caption as caption "
+            + "from GalleryItem g ";
+
+    // Keyset pages, newest first
+    @Query(SUMMARY + "order by g.id desc")
+    List<GallerySummary> findSummaryPage(Limit limit);
+
+    @Query(SUMMARY + "where g.id < :beforeId order by g.id desc")
+    List<GallerySummary> findSummaryPageBefore(@Param("beforeId") Long beforeId, Limit limit);
+
+    @Query(SUMMARY + "where g.category = :category and g.subCategory = :subCategory order by g.id desc")
+    List<GallerySummary> findAlbumPage(@Param("category") String category, @Param("subCategory") String subCategory,
+            Limit limit);
+
+    @Query(SUMMARY + "where g.category = :category and g.subCategory = :subCategory and g.id < :beforeId "
+            + "order by g.id desc")
+    List<GallerySummary> findAlbumPageBefore(@Param("category") String category,
+            @Param("subCategory") String subCategory, @Param("beforeId") Long beforeId, Limit limit);
+
+    @Query(SUMMARY + "where g.id in :ids")
+    List<GallerySummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // One row per album; the newest image is the cover
+    @Query("select g.category as category, g.subCategory as subCategory, count(g) as imageCount, max(g.id) as coverId "
+            + "from GalleryItem g group by g.category, g.subCategory order by max(g.id) desc")
+    List<AlbumSummary> findAlbums();
+
+    // Image requests resolve id to hash from the query cache; any write to the table invalidates it
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.image-refs") })
+    @Query("select g.imageHash as imageHash, g.imageContentType as imageContentType from GalleryItem g where g.id = :id")
+    Optional<ImageRef> findImageById(@Param("id") Long id);
+
+    boolean existsByImageHash(String imageHash);
+
+    @Query("select g.id from GalleryItem g where g.imageData is not null and g.imageHash is null")
+    List<Long> findIdsWithUnmigratedImage();
 }
@@ -0,0 +1,22 @@
+package com.spartans.cricket.repository;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * Read model for gallery listings. Selected column by column so the image blob is never loaded.
+ */
+@JsonFilter("fields")
+public interface GallerySummary {
+
+    Long getId();
+
+    String getCategory();
+
+    String getSubCategory();
+
+    String getImageUrl();
+
+    String getImageContentType();
+
+    String getCaption();
+}
@@ -0,0 +1,11 @@
+package com.spartans.cricket.repository;
+
+/**
+ * Where an entity's image lives in the image store, without the entity itself.
+ */
+public interface ImageRef {
+
+    String getImageHash();
+
+    String getImageContentType();
+}
@@ -1,11 +1,54 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.JoinRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface JoinRequestRepository extends JpaRepository<JoinRequest, Long> {
-    List<JoinRequest> findByStatusOrderByCreatedAtDesc(String status);
 
-    List<JoinRequest> findAllByOrderByCreatedAtDesc();
+    // Two index lookups; a null key matches nothing
+    @Query("select count(j) from JoinRequest j where j.emailKey = :emailKey or j.phoneKey = :phoneKey")
+    long countByContactKeys(@Param("emailKey") String emailKey, @Param("phoneKey") String phoneKey);
+
+    // Read once at startup to fill the duplicate filter; must run in a transaction
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select j.emailKey as emailKey, j.phoneKey as phoneKey from JoinRequest j "
+            + "where j.emailKey is not null or j.phoneKey is not null")
+    Stream<ContactKeys> streamAllContactKeys();
+
+    // Rows from before contact keys were stored, a page at a time in id order
+    @Query("select j.id as id, j.email as email, j.phone as phone from JoinRequest j where j.id > :afterId "
+            + "and j.emailKey is null and j.phoneKey is null and (j.email is not null or j.phone is not null) "
+            + "order by j.id")
+    List<UnkeyedContact> findWithoutContactKeys(@Param("afterId") Long afterId, Limit limit);
+
+    // Keyset pages on (createdAt, id), newest first
+    List<JoinRequest> findByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    @Query("select j from JoinRequest j where j.createdAt < :at or (j.createdAt = :at and j.id < :id) "
+            + "order by j.createdAt desc, j.id desc")
+    List<JoinRequest> findPageBefore(@Param("at") LocalDateTime at, @Param("id") Long id, Limit limit);
+
+    List<JoinRequest> findByStatusOrderByCreatedAtDescIdDesc(String status, Limit limit);
+
+    @Query("select j from JoinRequest j where j.status = :status "
+            + "and (j.createdAt < :at or (j.createdAt = :at and j.id < :id)) order by j.createdAt desc, j.id desc")
+    List<JoinRequest> findPageBeforeByStatus(@Param("status") String status, @Param("at") LocalDateTime at,
+            @Param("id") Long id, Limit limit);
+
+    // Export cursor: rows arrive from the driver 500 at a time. Must run in a transaction; detach rows once written.
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select j from JoinRequest j where j.createdAt >= :from and j.createdAt < :to order by j.createdAt, j.id")
+    Stream<JoinRequest> streamByCreatedAt(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
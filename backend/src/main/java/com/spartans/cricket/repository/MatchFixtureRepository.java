@@ -1,7 +1,43 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.MatchFixture;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MatchFixtureRepository extends JpaRepository<MatchFixture, Long> {
+
+    // Keyset pages, most recently added first
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.fixtures") })
+    List<MatchFixture> findByOrderByIdDesc(Limit limit);
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.fixtures") })
+    List<MatchFixture> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    // The same pages narrowed by status and/or a lower-case LIKE pattern on opponent or venue; null skips a filter
+    @Query("select m from MatchFixture m where m.id < :beforeId and (:status is null or m.status = :status) "
+            + "and (:pattern is null or lower(m.opponent) like :pattern escape '\\' "
+            + "or lower(m.venue) like :pattern escape '\\') order by m.id desc")
+    List<MatchFixture> findFilteredPageBefore(@Param("status") String status, @Param("pattern") String pattern,
+            @Param("beforeId") Long beforeId, Limit limit);
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.fixtures") })
+    List<MatchFixture> findByStatusOrderByMatchDateAsc(String status, Limit limit);
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.fixtures") })
+    List<MatchFixture> findByStatusOrderByMatchDateDesc(String status, Limit limit);
+
+    // Must agree with ClubStatsService.wins
+    @Query("select count(m) from MatchFixture m where m.status = 'Completed' and lower(m.result) like 'won%'")
+    long countWins();
 }
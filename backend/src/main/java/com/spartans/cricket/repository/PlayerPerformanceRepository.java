@@ -0,0 +1,38 @@
+package com.spartans.cricket.repository;
+
+import com.spartans.cricket.model.PlayerPerformance;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PlayerPerformanceRepository extends JpaRepository<PlayerPerformance, Long> {
+
+    boolean existsByPlayerIdAndMatchId(Long playerId, Long matchId);
+
+    List<PlayerPerformance> findByMatchIdOrderById(Long matchId);
+
+    // Keyset pages of a player's history, most recently recorded first
+    List<PlayerPerformance> findByPlayerIdOrderByIdDesc(Long playerId, Limit limit);
+
+    List<PlayerPerformance> findByPlayerIdAndIdLessThanOrderByIdDesc(Long playerId, Long id, Limit limit);
+
+    // Index seeks used only when a correction removes a player's best innings or spell
+    Optional<PlayerPerformance> findFirstByPlayerIdOrderByRunsDesc(Long playerId);
+
+    Optional<PlayerPerformance> findFirstByPlayerIdAndWicketsGreaterThanOrderByWicketsDescRunsConcededAsc(
+            Long playerId, int wickets);
+
+    // Seasons are calendar years of the fixture date; fixtures without a date belong to no season
+    @Query("select p.playerId as playerId, extract(year from m.matchDate) as season, sum(p.runs) as runs, "
+            + "sum(case when p.out = true then 1 else 0 end) as dismissals, sum(p.wickets) as wickets, "
+            + "sum(p.ballsBowled) as ballsBowled, sum(p.runsConceded) as runsConceded "
+            + "from PlayerPerformance p join MatchFixture m on m.id = p.matchId where m.matchDate is not null "
+            + "group by p.playerId, extract(year from m.matchDate)")
+    List<SeasonTotals> sumBySeason();
+
+    @org.springframework.transaction.annotation.Transactional
+    void deleteByPlayerId(Long playerId);
+}
@@ -1,7 +1,81 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
+
+    String SUMMARY = "select p.id as id, p.name as name, p.role as role, p.battingStyle as battingStyle, "
+            + "p.bowlingStyle as bowlingStyle, p.matches as matches, p.runs as runs, p.wickets as wickets, "
+            + "case when p.imageHash is not null then concat('/api/players/', cast(p.id as String), '/image?v=', p.imageHash) "
+            + "else p.imageUrl end as imageUrl, p.approved as approved, p.legalConsent as legalConsent, "
+            + "p.createdAt as createdAt from Player p ";
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.players") })
+    @Query(SUMMARY + "order by p.id")
+    List<PlayerSummary> findAllSummaries();
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.players") })
+    @Query(SUMMARY + "where p.approved = true order by p.id")
+    List<PlayerSummary> findApprovedSummaries();
+
+    // Image requests resolve id to hash from the query cache; any write to the table invalidates it
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.image-refs") })
+    @Query("select p.imageHash as imageHash, p.imageContentType as imageContentType from Player p where p.id = :id")
+    Optional<ImageRef> findImageById(@Param("id") Long id);
+
+    boolean existsByImageHash(String imageHash);
+
+    long countByApprovedTrue();
+
+    @Query("select p.id as id, p.name as name, p.approved as approved, p.runs as runs, p.battingRuns as battingRuns, "
+            + "p.dismissals as dismissals, p.wickets as wickets, p.bowlingWickets as bowlingWickets, "
+            + "p.ballsBowled as ballsBowled, p.runsConceded as runsConceded from Player p")
+    List<PlayerTotals> findAllTotals();
+
+    @Query("select p.id from Player p where p.imageData is not null and p.imageHash is null")
+    List<Long> findIdsWithUnmigratedImage();
+
+    // Career aggregates move by deltas in a single statement, so concurrent corrections cannot lose an update.
+    // Each statement flushes pending writes first and clears the context after, so the player re-read for the
+    // change event is not a stale managed copy.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.matches = p.matches + :matches, p.battingInnings = p.battingInnings + :innings, "
+            + "p.runs = p.runs + :runs, p.battingRuns = p.battingRuns + :runs, p.ballsFaced = p.ballsFaced + :ballsFaced, "
+            + "p.dismissals = p.dismissals + :dismissals, p.ballsBowled = p.ballsBowled + :ballsBowled, "
+            + "p.runsConceded = p.runsConceded + :runsConceded, p.wickets = p.wickets + :wickets, "
+            + "p.bowlingWickets = p.bowlingWickets + :wickets where p.id = :id")
+    int addCareerTotals(@Param("id") Long id, @Param("matches") int matches, @Param("innings") int innings,
+            @Param("runs") int runs, @Param("ballsFaced") int ballsFaced, @Param("dismissals") int dismissals,
+            @Param("ballsBowled") int ballsBowled, @Param("runsConceded") int runsConceded,
+            @Param("wickets") int wickets);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.highScore = :runs where p.id = :id and p.highScore < :runs")
+    int raiseHighScore(@Param("id") Long id, @Param("runs") int runs);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.bestWickets = :wickets, p.bestWicketsRuns = :runs where p.id = :id "
+            + "and (p.bestWickets < :wickets or (p.bestWickets = :wickets and p.bestWicketsRuns > :runs))")
+    int improveBestBowling(@Param("id") Long id, @Param("wickets") int wickets, @Param("runs") int runs);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.highScore = :runs where p.id = :id")
+    int setHighScore(@Param("id") Long id, @Param("runs") int runs);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Player p set p.bestWickets = :wickets, p.bestWicketsRuns = :runs where p.id = :id")
+    int setBestBowling(@Param("id") Long id, @Param("wickets") int wickets, @Param("runs") int runs);
 }
@@ -0,0 +1,36 @@
+package com.spartans.cricket.repository;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model for player listings. Selected column by column so the image blob is never loaded.
+ */
+@JsonFilter("fields")
+public interface PlayerSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getRole();
+
+    String getBattingStyle();
+
+    String getBowlingStyle();
+
+    int getMatches();
+
+    int getRuns();
+
+    int getWickets();
+
+    String getImageUrl();
+
+    boolean isApproved();
+
+    boolean isLegalConsent();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,27 @@
+package com.spartans.cricket.repository;
+
+/**
+ * A player's name, approval and career aggregates, without the rest of the row. Used to seed the leaderboards.
+ */
+public interface PlayerTotals {
+
+    Long getId();
+
+    String getName();
+
+    boolean isApproved();
+
+    int getRuns();
+
+    int getBattingRuns();
+
+    int getDismissals();
+
+    int getWickets();
+
+    int getBowlingWickets();
+
+    int getBallsBowled();
+
+    int getRunsConceded();
+}
@@ -1,8 +1,46 @@
 package com.spartans.cricket.repository;
 
 import com.spartans.cricket.model.Registration;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
-    long countByEmailOrPhoneNumber(String email, String phoneNumber);
+    // Two index lookups; a null key matches nothing
+    @Query("select count(r) from Registration r where r.emailKey = :emailKey or r.phoneKey = :phoneKey")
+    long countByContactKeys(@Param("emailKey") String emailKey, @Param("phoneKey") String phoneKey);
+
+    // Read once at startup to fill the duplicate filter; must run in a transaction
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select r.emailKey as emailKey, r.phoneKey as phoneKey from Registration r "
+            + "where r.emailKey is not null or r.phoneKey is not null")
+    Stream<ContactKeys> streamAllContactKeys();
+
+    // Rows from before contact keys were stored, a page at a time in id order
+    @Query("select r.id as id, r.email as email, r.phoneNumber as phone from Registration r where r.id > :afterId "
+            + "and r.emailKey is null and r.phoneKey is null and (r.email is not null or r.phoneNumber is not null) "
+            + "order by r.id")
+    List<UnkeyedContact> findWithoutContactKeys(@Param("afterId") Long afterId, Limit limit);
+
+    // Keyset pages on (createdAt, id), newest first
+    List<Registration> findByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    @Query("select r from Registration r where r.createdAt < :at or (r.createdAt = :at and r.id < :id) "
+            + "order by r.createdAt desc, r.id desc")
+    List<Registration> findPageBefore(@Param("at") LocalDateTime at, @Param("id") Long id, Limit limit);
+
+    // Export cursor: rows arrive from the driver 500 at a time. Must run in a transaction; detach rows once written.
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select r from Registration r where r.createdAt >= :from and r.createdAt < :to order by r.createdAt, r.id")
+    Stream<Registration> streamByCreatedAt(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
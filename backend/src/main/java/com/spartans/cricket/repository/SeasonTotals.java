@@ -0,0 +1,21 @@
+package com.spartans.cricket.repository;
+
+/**
+ * One player's recorded figures summed over the fixtures of one calendar year.
+ */
+public interface SeasonTotals {
+
+    Long getPlayerId();
+
+    Integer getSeason();
+
+    long getRuns();
+
+    long getDismissals();
+
+    long getWickets();
+
+    long getBallsBowled();
+
+    long getRunsConceded();
+}
@@ -0,0 +1,14 @@
+package com.spartans.cricket.repository;
+
+/**
+ * A registration or join request saved before contact keys were stored: its id and the raw email and phone the
+ * keys are computed from.
+ */
+public interface UnkeyedContact {
+
+    Long getId();
+
+    String getEmail();
+
+    String getPhone();
+}
@@ -0,0 +1,341 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.storage.ImageService;
+import com.spartans.cricket.storage.StoredImage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Resumable, chunked uploads of gallery batches: start a session declaring the files, PUT each file's bytes in
+ * chunks at explicit offsets, then finalise.
+ * <p>
+ * Chunks are streamed from the request straight into a pre-sized file with positional writes, so they never sit in
+ * the heap, may arrive in any order and several at once, and a chunk cut off by a dropped connection is simply sent
+ * again. Only chunks that arrive whole are recorded as received. Finalising queues a {@link MediaJob} that stores
+ * each file, checks it against the SHA-256 the client declared, renders it, and then inserts all the gallery rows
+ * in one transaction as JDBC batches. Sessions live in memory and their files are removed
+ * {@code spartans.uploads.expire-hours} after the last chunk, finished or not.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER = 64 * 1024;
+
+    @Autowired
+    private MediaJobService mediaJobService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Value("${spartans.uploads.chunk-size:4194304}")
+    private int chunkSize;
+
+    @Value("${spartans.uploads.max-file-size:52428800}")
+    private long maxFileSize;
+
+    @Value("${spartans.uploads.max-files:500}")
+    private int maxFiles;
+
+    @Value("${spartans.uploads.expire-hours:24}")
+    private long expireHours;
+
+    @Value("${spartans.import.batch-size:50}")
+    private int batchSize;
+
+    private final Path root;
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(@Value("${spartans.uploads.dir:./uploads/chunked}") String root) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        // Sessions are not kept across restarts, so whatever is on disk is orphaned
+        FileSystemUtils.deleteRecursively(this.root);
+        Files.createDirectories(this.root);
+    }
+
+    public UploadSession start(String category, String subCategory, String caption,
+            List<UploadSession.FileSpec> specs) throws IOException {
+        if (category == null || category.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "category is required");
+        }
+        if (specs == null || specs.isEmpty() || specs.size() > maxFiles) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Declare between 1 and " + maxFiles + " files");
+        }
+        for (UploadSession.FileSpec spec : specs) {
+            if (spec.getSize() <= 0 || spec.getSize() > maxFileSize) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "File sizes must be between 1 and " + maxFileSize + " bytes: " + spec.getName());
+            }
+            if (spec.getContentType() == null || !spec.getContentType().startsWith("image/")) {
+                throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                        "Only images can be uploaded: " + spec.getName());
+            }
+            if (spec.getSha256() != null) {
+                spec.setSha256(spec.getSha256().toLowerCase(Locale.ROOT));
+                if (!SHA256.matcher(spec.getSha256()).matches()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "sha256 must be 64 hex characters: " + spec.getName());
+                }
+            }
+        }
+
+        String id = UUID.randomUUID().toString();
+        Path dir = Files.createDirectories(root.resolve(id));
+        List<UploadSession.UploadFile> files = new ArrayList<>(specs.size());
+        for (int i = 0; i < specs.size(); i++) {
+            Path path = dir.resolve(i + ".part");
+            // Sized up front so parallel chunks can land anywhere in it
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[1]), specs.get(i).getSize() - 1);
+            }
+            files.add(new UploadSession.UploadFile(i, specs.get(i), path));
+        }
+        UploadSession session = new UploadSession(id, category.trim(),
+                subCategory != null && !subCategory.isBlank() ? subCategory.trim() : "General",
+                caption != null ? caption : "", chunkSize, files);
+        sessions.put(id, session);
+        System.out.println("Upload session " + id + " started for " + files.size() + " files");
+        return session;
+    }
+
+    public Optional<UploadSession> find(String id) {
+        return Optional.ofNullable(sessions.get(id));
+    }
+
+    /**
+     * Writes one chunk of file {@code index} starting at {@code offset}. The chunk counts as received only once all
+     * of it has been written; a chunk overlapping one already received simply overwrites the same bytes.
+     */
+    public UploadSession.UploadFile writeChunk(String id, int index, long offset, long length, InputStream body)
+            throws IOException {
+        UploadSession session = session(id);
+        if (!session.startWrite()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload " + id + " has already been finalised");
+        }
+        try {
+            return write(session, index, offset, length, body);
+        } finally {
+            session.endWrite();
+        }
+    }
+
+    private UploadSession.UploadFile write(UploadSession session, int index, long offset, long length,
+            InputStream body) throws IOException {
+        String id = session.getId();
+        if (index < 0 || index >= session.getFiles().size()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload " + id + " has no file " + index);
+        }
+        UploadSession.UploadFile file = session.getFiles().get(index);
+        if (length > chunkSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Chunks are at most " + chunkSize + " bytes");
+        }
+        if (offset < 0 || (length >= 0 && offset + length > file.getSize())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Chunk at " + offset + " runs past the end of " + file.getName());
+        }
+
+        long written = 0;
+        long limit = Math.min(chunkSize, file.getSize() - offset);
+        byte[] buffer = new byte[BUFFER];
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > limit) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Chunk at " + offset + " is longer than the space left in " + file.getName());
+                }
+                ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes, offset + written + bytes.position());
+                }
+                written += read;
+            }
+        }
+        if (length >= 0 && written != length) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Chunk at " + offset + " was cut short: " + written + " of " + length + " bytes");
+        }
+        if (written > 0) {
+            file.mark(offset, offset + written);
+        }
+        session.touch();
+        return file;
+    }
+
+    /**
+     * Queues the batch for processing once every file is complete; answers with the job to poll.
+     */
+    public MediaJob finish(String id) {
+        UploadSession session = session(id);
+        List<String> incomplete = session.getFiles().stream()
+                .filter(file -> !file.isComplete())
+                .map(UploadSession.UploadFile::getName)
+                .toList();
+        if (!incomplete.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Still missing bytes of " + incomplete);
+        }
+        if (!session.claim()) {
+            if (!session.isFinalizing()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "A chunk of upload " + id + " is still being written; finalise again once it is done");
+            }
+            // A repeated finalise, e.g. after the response to the first one was lost
+            return Optional.ofNullable(session.getJobId()).flatMap(mediaJobService::find)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Upload " + id + " is already being finalised"));
+        }
+        try {
+            MediaJob job = mediaJobService.submit("gallery-batch", running -> process(session, running));
+            session.setJobId(job.getId());
+            session.getFiles().forEach(file -> mediaJobService.recordUpload("gallery-batch", file.getSize()));
+            return job;
+        } catch (ResponseStatusException e) {
+            session.reopen();
+            throw e;
+        }
+    }
+
+    public void abort(String id) throws IOException {
+        UploadSession session = session(id);
+        if (session.isFinalizing()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload " + id + " has already been finalised");
+        }
+        discard(session);
+    }
+
+    private List<Long> process(UploadSession session, MediaJob job) throws IOException {
+        List<Long> ids;
+        try {
+            ids = save(session, job);
+        } catch (RuntimeException | IOException e) {
+            // Left as it was, so the client can fix what is wrong and finalise again
+            session.reopen();
+            throw e;
+        }
+        events.publishEvent(new ContentReloadedEvent(GalleryItem.class));
+        discard(session);
+        System.out.println("Upload session " + session.getId() + " saved " + ids.size() + " gallery items");
+        return ids;
+    }
+
+    private List<Long> save(UploadSession session, MediaJob job) throws IOException {
+        List<UploadSession.UploadFile> files = session.getFiles();
+        List<StoredImage> stored = new ArrayList<>(files.size());
+        List<Long> ids = new ArrayList<>(files.size());
+        try {
+            List<String> corrupt = new ArrayList<>();
+            for (UploadSession.UploadFile file : files) {
+                job.advance("storing " + file.getName(), 5 + 70 * stored.size() / files.size());
+                StoredImage image = imageService.store(file.getPath(), file.getContentType());
+                if (file.getSha256() != null && !file.getSha256().equals(image.getHash())) {
+                    corrupt.add(file.getName());
+                    file.reset();
+                }
+                stored.add(image);
+            }
+            if (!corrupt.isEmpty()) {
+                // The corrupt files can be sent again
+                throw new IllegalStateException("Checksum mismatch, upload these again: " + corrupt);
+            }
+
+            for (int i = 0; i < stored.size(); i++) {
+                job.advance("renditions", 75 + 15 * i / stored.size());
+                imageService.render(stored.get(i));
+            }
+
+            job.advance("saving", 90);
+            transactionTemplate.executeWithoutResult(status -> {
+                Session hibernate = entityManager.unwrap(Session.class);
+                hibernate.setJdbcBatchSize(batchSize);
+                try {
+                    for (StoredImage image : stored) {
+                        GalleryItem item = new GalleryItem();
+                        item.setCategory(session.getCategory());
+                        item.setSubCategory(session.getSubCategory());
+                        item.setCaption(session.getCaption());
+                        item.setImageHash(image.getHash());
+                        item.setImageContentType(image.getContentType());
+                        entityManager.persist(item);
+                        ids.add(item.getId());
+                    }
+                    entityManager.flush();
+                } finally {
+                    hibernate.setJdbcBatchSize(null);
+                }
+            });
+        } catch (Exception e) {
+            // Nothing was saved pointing at these (unless they were already in use), so they go again
+            stored.forEach(imageService::discard);
+            throw e;
+        }
+        stored.forEach(imageService::saved);
+        return ids;
+    }
+
+    @Scheduled(fixedDelay = 600000)
+    public void expire() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(expireHours);
+        for (UploadSession session : sessions.values()) {
+            // A session being finalised belongs to its job, which discards it when done
+            if (session.getTouchedAt().isBefore(cutoff) && !session.isFinalizing() && !session.isWriting()) {
+                try {
+                    discard(session);
+                } catch (IOException e) {
+                    System.err.println("Failed to remove upload " + session.getId() + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void discard(UploadSession session) throws IOException {
+        sessions.remove(session.getId());
+        FileSystemUtils.deleteRecursively(root.resolve(session.getId()));
+    }
+
+    private UploadSession session(String id) {
+        UploadSession session = sessions.get(id);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No upload " + id);
+        }
+        return session;
+    }
+}
@@ -0,0 +1,149 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.Achievement;
+import com.spartans.cricket.model.ClubStats;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.repository.AchievementRepository;
+import com.spartans.cricket.repository.ClubStatsRepository;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Club stats derived from the data instead of typed in by hand: matches won (completed fixtures whose result
+ * starts with "Won"), active players (approved players) and championships (years listed on TROPHY
+ * achievements). The counters live in memory and in the singleton {@link ClubStats} row; each write only applies
+ * its own difference, a full recount happens on {@link #rebuild()} or when the stored row was never derived.
+ */
+@Service
+public class ClubStatsService {
+
+    private static final String TROPHY = "TROPHY";
+
+    @Autowired
+    private ClubStatsRepository clubStatsRepository;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    // Never mutated once published; every change swaps in a new copy
+    private volatile ClubStats stats;
+
+    public ClubStats get() {
+        ClubStats current = stats;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (stats == null) {
+                load();
+            }
+            return stats;
+        }
+    }
+
+    public synchronized ClubStats rebuild() {
+        ClubStats before = stats;
+        ClubStats row = clubStatsRepository.findAll().stream().findFirst().orElseGet(ClubStats::new);
+        row.setMatchesWon((int) matchFixtureRepository.countWins());
+        row.setActivePlayers((int) playerRepository.countByApprovedTrue());
+        row.setChampionships(achievementRepository.findByType(TROPHY).stream()
+                .mapToInt(ClubStatsService::championships).sum());
+        row.setRebuiltAt(LocalDateTime.now());
+        stats = clubStatsRepository.save(row);
+        events.publishEvent(before == null ? ContentChangedEvent.created(stats)
+                : ContentChangedEvent.updated(before, stats));
+        System.out.println("Club stats recounted: " + stats.getMatchesWon() + " won, " + stats.getActivePlayers()
+                + " active players, " + stats.getChampionships() + " championships");
+        return stats;
+    }
+
+    @EventListener
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        int won = 0;
+        int active = 0;
+        int titles = 0;
+        if (event.isAbout(MatchFixture.class)) {
+            won = wins(event.<MatchFixture>getAfter()) - wins(event.<MatchFixture>getBefore());
+        } else if (event.isAbout(Player.class)) {
+            active = approved(event.<Player>getAfter()) - approved(event.<Player>getBefore());
+        } else if (event.isAbout(Achievement.class)) {
+            titles = championships(event.<Achievement>getAfter()) - championships(event.<Achievement>getBefore());
+        }
+        if (won == 0 && active == 0 && titles == 0) {
+            return;
+        }
+        // A recount triggered here already sees this (committed) write
+        if (stats == null && load()) {
+            return;
+        }
+
+        ClubStats before = stats;
+        ClubStats next = ContentChangedEvent.copyOf(before);
+        next.setMatchesWon(before.getMatchesWon() + won);
+        next.setActivePlayers(before.getActivePlayers() + active);
+        next.setChampionships(before.getChampionships() + titles);
+        stats = clubStatsRepository.save(next);
+        events.publishEvent(ContentChangedEvent.updated(before, stats));
+    }
+
+    // A bulk write can touch any number of rows, so the counters are recounted rather than adjusted
+    @EventListener
+    public void onContentReloaded(ContentReloadedEvent event) {
+        if (event.isAbout(MatchFixture.class) || event.isAbout(Player.class) || event.isAbout(Achievement.class)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Loads the stored counters, recounting when there is no row yet or it still holds hand-typed numbers.
+     * Returns whether a recount happened.
+     */
+    private boolean load() {
+        ClubStats row = clubStatsRepository.findAll().stream().findFirst().orElse(null);
+        if (row == null || row.getRebuiltAt() == null) {
+            rebuild();
+            return true;
+        }
+        stats = row;
+        return false;
+    }
+
+    private static int wins(MatchFixture match) {
+        return match != null && "Completed".equals(match.getStatus()) && match.getResult() != null
+                && match.getResult().toLowerCase(Locale.ROOT).startsWith("won") ? 1 : 0;
+    }
+
+    private static int approved(Player player) {
+        return player != null && player.isApproved() ? 1 : 0;
+    }
+
+    // "2023, 2021" on a trophy counts as two championships
+    private static int championships(Achievement achievement) {
+        if (achievement == null || !TROPHY.equals(achievement.getType()) || achievement.getAchievementYear() == null) {
+            return 0;
+        }
+        return (int) Arrays.stream(achievement.getAchievementYear().split(","))
+                .filter(year -> !year.isBlank())
+                .count();
+    }
+}
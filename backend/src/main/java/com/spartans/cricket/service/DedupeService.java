@@ -0,0 +1,238 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.model.JoinRequest;
+import com.spartans.cricket.model.Registration;
+import com.spartans.cricket.repository.ContactKeys;
+import com.spartans.cricket.repository.JoinRequestRepository;
+import com.spartans.cricket.repository.RegistrationRepository;
+import com.spartans.cricket.repository.UnkeyedContact;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Duplicate detection for registrations and join requests, across both tables.
+ * <p>
+ * Email and phone are reduced to canonical keys ("Max.Mustermann+club@GMail.com" and "maxmustermann@gmail.com"
+ * agree, as do "+49 151 2345678" and "0151/2345678"), stored in indexed columns. A Bloom filter of every stored
+ * key sits in front of those columns: when it rules both keys out, which is the usual case for a new member, the
+ * submission is accepted without a query. The filter is sized from the stored rows; while it is being (re)built
+ * every check goes to the database.
+ */
+@Service
+public class DedupeService {
+
+    // Numbers written without a country code are taken to be German
+    private static final String DEFAULT_COUNTRY_CODE = "49";
+    private static final int MIN_PHONE_DIGITS = 6;
+    // Filter capacity relative to the keys stored when it is built, so it only fills up after a lot of growth
+    private static final int HEADROOM = 2;
+    // Rows read and keyed per backfill step; each step's updates go out as one JDBC batch
+    private static final int BACKFILL_PAGE = 500;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private JoinRequestRepository joinRequestRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The smallest filter built, in keys; each contact adds up to two
+    @Value("${spartans.dedupe.expected-contacts:100000}")
+    private int expectedContacts;
+
+    private volatile BloomFilter known;
+    private volatile boolean loaded;
+    private volatile long capacity;
+    private final AtomicLong added = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * Builds the filter from both tables, sized for the keys stored now plus headroom. Runs at startup, after bulk
+     * writes and whenever the filter outgrows its capacity; checks go to the database until it is done.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        loaded = false;
+        int backfilled = backfill("registration", registrationRepository::findWithoutContactKeys)
+                + backfill("join_request", joinRequestRepository::findWithoutContactKeys);
+        long stored = 2 * (registrationRepository.count() + joinRequestRepository.count());
+        capacity = Math.min(Integer.MAX_VALUE, Math.max(expectedContacts, stored * HEADROOM));
+        // Swapped in before the tables are read, so keys remembered meanwhile are not lost
+        known = new BloomFilter((int) capacity, 0.01);
+        added.set(0);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long contacts = readOnly.execute(status -> {
+            try (Stream<ContactKeys> registrations = registrationRepository.streamAllContactKeys();
+                    Stream<ContactKeys> requests = joinRequestRepository.streamAllContactKeys()) {
+                return rememberAll(registrations) + rememberAll(requests);
+            }
+        });
+        loaded = true;
+        System.out.println("Duplicate filter loaded from " + contacts + " contact(s), sized for " + capacity
+                + " keys" + (backfilled > 0 ? ", " + backfilled + " backfilled" : ""));
+    }
+
+    // Keys for rows saved before they were stored. Only id, email and phone are read, a page at a time, and no
+    // entities are loaded; rows that yield no key are skipped and read again on the next run.
+    private int backfill(String table, BiFunction<Long, Limit, List<UnkeyedContact>> page) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int backfilled = 0;
+        long after = 0;
+        while (true) {
+            List<UnkeyedContact> rows = page.apply(after, Limit.of(BACKFILL_PAGE));
+            if (rows.isEmpty()) {
+                return backfilled;
+            }
+            List<Object[]> keys = new ArrayList<>(rows.size());
+            for (UnkeyedContact row : rows) {
+                String emailKey = emailKey(row.getEmail());
+                String phoneKey = phoneKey(row.getPhone());
+                if (emailKey != null || phoneKey != null) {
+                    keys.add(new Object[] { emailKey, phoneKey, row.getId() });
+                }
+            }
+            if (!keys.isEmpty()) {
+                transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        "UPDATE " + table + " SET email_key = ?, phone_key = ? WHERE id = ?", keys));
+            }
+            backfilled += keys.size();
+            after = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    public void applyKeys(Registration registration) {
+        registration.setEmailKey(emailKey(registration.getEmail()));
+        registration.setPhoneKey(phoneKey(registration.getPhoneNumber()));
+    }
+
+    public void applyKeys(JoinRequest request) {
+        request.setEmailKey(emailKey(request.getEmail()));
+        request.setPhoneKey(phoneKey(request.getPhone()));
+    }
+
+    /**
+     * Registrations plus join requests sharing the email or the phone key; zero without a query when the filter
+     * has seen neither key.
+     */
+    public long countDuplicates(String emailKey, String phoneKey) {
+        if (emailKey == null && phoneKey == null) {
+            return 0;
+        }
+        if (loaded && !mightBeKnown(emailKey, phoneKey)) {
+            return 0;
+        }
+        return registrationRepository.countByContactKeys(emailKey, phoneKey)
+                + joinRequestRepository.countByContactKeys(emailKey, phoneKey);
+    }
+
+    // Call after every save, so the filter never rules out a stored key
+    public void remember(String emailKey, String phoneKey) {
+        BloomFilter filter = known;
+        if (filter == null) {
+            return;
+        }
+        if (emailKey != null) {
+            filter.add("e:" + emailKey);
+        }
+        if (phoneKey != null) {
+            filter.add("p:" + phoneKey);
+        }
+        long keys = (emailKey != null ? 1 : 0) + (phoneKey != null ? 1 : 0);
+        // Past capacity the false-positive rate climbs towards every check querying; a bigger filter is built aside
+        if (added.addAndGet(keys) > capacity && loaded && rebuilding.compareAndSet(false, true)) {
+            System.out.println("Duplicate filter passed its capacity of " + capacity + " keys, rebuilding");
+            Thread rebuild = new Thread(() -> {
+                try {
+                    warmUp();
+                } finally {
+                    rebuilding.set(false);
+                }
+            }, "dedupe-rebuild");
+            rebuild.setDaemon(true);
+            rebuild.start();
+        }
+    }
+
+    private long rememberAll(Stream<ContactKeys> rows) {
+        long count = 0;
+        for (ContactKeys row : (Iterable<ContactKeys>) rows::iterator) {
+            remember(row.getEmailKey(), row.getPhoneKey());
+            count++;
+        }
+        return count;
+    }
+
+    private boolean mightBeKnown(String emailKey, String phoneKey) {
+        BloomFilter filter = known;
+        return (emailKey != null && filter.mightContain("e:" + emailKey))
+                || (phoneKey != null && filter.mightContain("p:" + phoneKey));
+    }
+
+    /**
+     * Lower case, without a "+tag" suffix; Gmail addresses also lose the dots it ignores.
+     */
+    static String emailKey(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        String address = email.trim().toLowerCase(Locale.ROOT);
+        int at = address.lastIndexOf('@');
+        if (at <= 0) {
+            return address;
+        }
+        String local = address.substring(0, at);
+        String domain = address.substring(at + 1);
+        int tag = local.indexOf('+');
+        if (tag > 0) {
+            local = local.substring(0, tag);
+        }
+        if (domain.equals("gmail.com") || domain.equals("googlemail.com")) {
+            local = local.replace(".", "");
+            domain = "gmail.com";
+        }
+        return local + "@" + domain;
+    }
+
+    /**
+     * Digits only, with the country code and without a trunk zero: "+49 (0)151 234", "0049 151 234" and
+     * "0151-234" all become "49151234". Too few digits to be a number gives no key.
+     */
+    static String phoneKey(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String digits = phone.replaceAll("\\D", "");
+        boolean international = phone.trim().startsWith("+");
+        if (!international && digits.startsWith("00")) {
+            digits = digits.substring(2);
+            international = true;
+        }
+        if (!international) {
+            digits = DEFAULT_COUNTRY_CODE + (digits.startsWith("0") ? digits.substring(1) : digits);
+        } else if (digits.startsWith(DEFAULT_COUNTRY_CODE + "0")) {
+            digits = DEFAULT_COUNTRY_CODE + digits.substring(DEFAULT_COUNTRY_CODE.length() + 1);
+        }
+        return digits.length() - DEFAULT_COUNTRY_CODE.length() < MIN_PHONE_DIGITS ? null : digits;
+    }
+}
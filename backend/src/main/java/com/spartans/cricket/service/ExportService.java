@@ -0,0 +1,176 @@
+package com.spartans.cricket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartans.cricket.model.JoinRequest;
+import com.spartans.cricket.model.Registration;
+import com.spartans.cricket.repository.JoinRequestRepository;
+import com.spartans.cricket.repository.RegistrationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Streams registrations and join requests out as CSV or NDJSON for the league office.
+ * <p>
+ * Rows come from a forward-only database cursor, are written to the response as they arrive and are detached
+ * from the session straight after, so heap use does not depend on the size of the export and the first bytes go
+ * out before the last row has been read.
+ */
+@Service
+public class ExportService {
+
+    public static final String REGISTRATIONS = "registrations";
+    public static final String JOIN_REQUESTS = "joinRequests";
+
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final int FLUSH_EVERY = 1000;
+    // Phone numbers start with + but are not formulas; anything else starting with these is defused for spreadsheets
+    private static final Pattern PHONE_LIKE = Pattern.compile("[+-]?[0-9 ()/-]*");
+
+    private static final Map<String, Function<Registration, Object>> REGISTRATION_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<JoinRequest, Object>> JOIN_REQUEST_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        REGISTRATION_COLUMNS.put("id", Registration::getId);
+        REGISTRATION_COLUMNS.put("fullName", Registration::getFullName);
+        REGISTRATION_COLUMNS.put("email", Registration::getEmail);
+        REGISTRATION_COLUMNS.put("phoneNumber", Registration::getPhoneNumber);
+        REGISTRATION_COLUMNS.put("preferredRole", Registration::getPreferredRole);
+        REGISTRATION_COLUMNS.put("experienceLevel", Registration::getExperienceLevel);
+        REGISTRATION_COLUMNS.put("status", Registration::getStatus);
+        REGISTRATION_COLUMNS.put("legalConsent", Registration::getLegalConsent);
+        REGISTRATION_COLUMNS.put("createdAt", Registration::getCreatedAt);
+
+        JOIN_REQUEST_COLUMNS.put("id", JoinRequest::getId);
+        JOIN_REQUEST_COLUMNS.put("name", JoinRequest::getName);
+        JOIN_REQUEST_COLUMNS.put("email", JoinRequest::getEmail);
+        JOIN_REQUEST_COLUMNS.put("phone", JoinRequest::getPhone);
+        JOIN_REQUEST_COLUMNS.put("role", JoinRequest::getRole);
+        JOIN_REQUEST_COLUMNS.put("experience", JoinRequest::getExperience);
+        JOIN_REQUEST_COLUMNS.put("message", JoinRequest::getMessage);
+        JOIN_REQUEST_COLUMNS.put("status", JoinRequest::getStatus);
+        JOIN_REQUEST_COLUMNS.put("legalConsent", JoinRequest::isLegalConsent);
+        JOIN_REQUEST_COLUMNS.put("createdAt", JoinRequest::getCreatedAt);
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private JoinRequestRepository joinRequestRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * The response body for one export; {@code from} and {@code to} are inclusive days on the creation date and
+     * may be left open. Unknown kinds and formats are rejected here, before anything is streamed.
+     */
+    public StreamingResponseBody export(String kind, String format, LocalDate from, LocalDate to) {
+        if (!"csv".equals(format) && !"ndjson".equals(format)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be csv or ndjson");
+        }
+        LocalDateTime start = from != null ? from.atStartOfDay() : EARLIEST;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : LATEST;
+        boolean csv = "csv".equals(format);
+        if (REGISTRATIONS.equals(kind)) {
+            return out -> stream(() -> registrationRepository.streamByCreatedAt(start, end), REGISTRATION_COLUMNS,
+                    csv, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        }
+        if (JOIN_REQUESTS.equals(kind)) {
+            return out -> stream(() -> joinRequestRepository.streamByCreatedAt(start, end), JOIN_REQUEST_COLUMNS,
+                    csv, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nothing to export as " + kind);
+    }
+
+    // Runs on the async response thread, so it opens its own read-only transaction for the cursor
+    private <T> void stream(Supplier<Stream<T>> query, Map<String, Function<T, Object>> columns,
+            boolean csv, Writer out) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get()) {
+                    if (csv) {
+                        out.write(String.join(",", columns.keySet()));
+                        out.write("\r\n");
+                    }
+                    out.flush();
+                    int written = 0;
+                    for (T row : (Iterable<T>) rows::iterator) {
+                        if (csv) {
+                            writeCsv(row, columns, out);
+                        } else {
+                            out.write(objectMapper.writeValueAsString(row));
+                            out.write('\n');
+                        }
+                        entityManager.detach(row);
+                        if (++written % FLUSH_EVERY == 0) {
+                            out.flush();
+                        }
+                    }
+                    out.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> void writeCsv(T row, Map<String, Function<T, Object>> columns, Writer out) throws IOException {
+        boolean first = true;
+        for (Function<T, Object> column : columns.values()) {
+            if (!first) {
+                out.write(',');
+            }
+            out.write(csvField(column.apply(row)));
+            first = false;
+        }
+        out.write("\r\n");
+    }
+
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !PHONE_LIKE.matcher(text).matches()) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,100 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.model.Achievement;
+import com.spartans.cricket.model.ClubStats;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.repository.PlayerSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Everything the public homepage renders, assembled once and shared by every visitor until content changes.
+ */
+public class HomeSnapshot {
+
+    private final ClubStats stats;
+    private final List<PlayerSummary> players;
+    private final List<MatchFixture> liveMatches;
+    private final List<MatchFixture> upcomingMatches;
+    private final List<MatchFixture> recentMatches;
+    private final List<Achievement> achievements;
+    private final List<AlbumCover> albums;
+    private final LocalDateTime builtAt;
+
+    public HomeSnapshot(ClubStats stats, List<PlayerSummary> players, List<MatchFixture> liveMatches,
+            List<MatchFixture> upcomingMatches, List<MatchFixture> recentMatches, List<Achievement> achievements,
+            List<AlbumCover> albums) {
+        this.stats = stats;
+        this.players = List.copyOf(players);
+        this.liveMatches = List.copyOf(liveMatches);
+        this.upcomingMatches = List.copyOf(upcomingMatches);
+        this.recentMatches = List.copyOf(recentMatches);
+        this.achievements = List.copyOf(achievements);
+        this.albums = List.copyOf(albums);
+        this.builtAt = LocalDateTime.now();
+    }
+
+    public ClubStats getStats() {
+        return stats;
+    }
+
+    public List<PlayerSummary> getPlayers() {
+        return players;
+    }
+
+    public List<MatchFixture> getLiveMatches() {
+        return liveMatches;
+    }
+
+    public List<MatchFixture> getUpcomingMatches() {
+        return upcomingMatches;
+    }
+
+    public List<MatchFixture> getRecentMatches() {
+        return recentMatches;
+    }
+
+    public List<Achievement> getAchievements() {
+        return achievements;
+    }
+
+    public List<AlbumCover> getAlbums() {
+        return albums;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public static class AlbumCover {
+
+        private final String category;
+        private final String subCategory;
+        private final long imageCount;
+        private final String coverImageUrl;
+
+        public AlbumCover(String category, String subCategory, long imageCount, String coverImageUrl) {
+            this.category = category;
+            this.subCategory = subCategory;
+            this.imageCount = imageCount;
+            this.coverImageUrl = coverImageUrl;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getSubCategory() {
+            return subCategory;
+        }
+
+        public long getImageCount() {
+            return imageCount;
+        }
+
+        public String getCoverImageUrl() {
+            return coverImageUrl;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.Achievement;
+import com.spartans.cricket.model.ClubStats;
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.repository.AchievementRepository;
+import com.spartans.cricket.repository.AlbumSummary;
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the homepage {@link HomeSnapshot} in memory. Reads never touch the database once the snapshot is built;
+ * any content write drops it and the next read rebuilds it.
+ */
+@Service
+public class HomeSnapshotService {
+
+    private static final List<Class<?>> SOURCES = List.of(
+            Player.class, MatchFixture.class, Achievement.class, ClubStats.class, GalleryItem.class);
+    private static final int MATCHES_PER_LIST = 10;
+
+    @Autowired
+    private ClubStatsService clubStatsService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile HomeSnapshot snapshot;
+
+    public HomeSnapshot get() {
+        HomeSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null) {
+                long seen = version.get();
+                current = build();
+                // A write that landed mid-build leaves the snapshot empty so the next read sees it
+                if (version.get() == seen) {
+                    snapshot = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        get();
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (SOURCES.stream().anyMatch(event::isAbout)) {
+            version.incrementAndGet();
+            snapshot = null;
+        }
+    }
+
+    @EventListener
+    public void onContentReloaded(ContentReloadedEvent event) {
+        if (SOURCES.stream().anyMatch(event::isAbout)) {
+            version.incrementAndGet();
+            snapshot = null;
+        }
+    }
+
+    private HomeSnapshot build() {
+        return new HomeSnapshot(
+                clubStatsService.get(),
+                playerRepository.findApprovedSummaries(),
+                matchFixtureRepository.findByStatusOrderByMatchDateAsc("Live", Limit.unlimited()),
+                matchFixtureRepository.findByStatusOrderByMatchDateAsc("Upcoming", Limit.of(MATCHES_PER_LIST)),
+                matchFixtureRepository.findByStatusOrderByMatchDateDesc("Completed", Limit.of(MATCHES_PER_LIST)),
+                achievementRepository.findAll(),
+                albumCovers());
+    }
+
+    private List<HomeSnapshot.AlbumCover> albumCovers() {
+        List<AlbumSummary> albums = galleryRepository.findAlbums();
+        if (albums.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> coverUrls = new HashMap<>();
+        galleryRepository.findSummariesByIdIn(albums.stream().map(AlbumSummary::getCoverId).toList())
+                .forEach(cover -> coverUrls.put(cover.getId(), cover.getImageUrl()));
+        return albums.stream()
+                .map(album -> new HomeSnapshot.AlbumCover(album.getCategory(), album.getSubCategory(),
+                        album.getImageCount(), coverUrls.get(album.getCoverId())))
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.spartans.cricket.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one bulk import: how many rows were read and saved, and why the others were rejected. Only the
+ * first {@link #MAX_ERRORS} rejections are listed so a badly broken file cannot grow the report without bound.
+ */
+public class ImportReport {
+
+    public static final int MAX_ERRORS = 500;
+
+    private int rows;
+    private int imported;
+    private int rejected;
+    private boolean dryRun;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void row() {
+        rows++;
+    }
+
+    void imported() {
+        imported++;
+    }
+
+    void reject(int line, String message) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    // Rows saved, or on a dry run the rows that would have been
+    public int getImported() {
+        return imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public boolean isErrorsTruncated() {
+        return rejected > errors.size();
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public static class RowError {
+        private final int line;
+        private final String message;
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.spartans.cricket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an import body one row at a time, so only the current row is ever held in memory. CSV needs a header
+ * line; NDJSON is one JSON object per line. Column names are matched loosely ("Batting Style", "batting_style"
+ * and "battingStyle" are the same column).
+ */
+abstract class ImportRows {
+
+    protected final BufferedReader reader;
+    protected int line;
+    private int rowLine;
+
+    ImportRows(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ImportRows csv(BufferedReader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    static ImportRows ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new Ndjson(reader, objectMapper);
+    }
+
+    /**
+     * The next row keyed by normalised column name, or null at the end of the body. A row that cannot be parsed
+     * throws {@link IllegalArgumentException}; reading can continue with the row after it.
+     */
+    abstract Map<String, String> next() throws IOException;
+
+    // Line on which the row last returned by next() started, for error reports
+    int getRowLine() {
+        return rowLine;
+    }
+
+    protected void startRow() {
+        rowLine = line;
+    }
+
+    static String column(String name) {
+        return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Csv extends ImportRows {
+        private final List<String> header;
+
+        Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> names = record();
+            if (names == null) {
+                throw new IllegalArgumentException("The CSV body has no header line");
+            }
+            header = names.stream().map(ImportRows::column).toList();
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            List<String> values = record();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() > header.size()) {
+                throw new IllegalArgumentException("Row has " + values.size() + " fields, the header has "
+                        + header.size());
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                row.put(header.get(i), values.get(i));
+            }
+            return row;
+        }
+
+        // RFC 4180: quoted fields may hold commas, doubled quotes and line breaks. Blank lines are skipped.
+        private List<String> record() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+            startRow();
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    text = reader.readLine();
+                    if (text == null) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    line++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = text.charAt(i++);
+                if (quoted) {
+                    if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString().trim());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString().trim());
+            return fields;
+        }
+    }
+
+    private static class Ndjson extends ImportRows {
+        private final ObjectMapper objectMapper;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Map<String, String> next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+            startRow();
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Not valid JSON");
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            Map<String, String> row = new HashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> field = it.next();
+                JsonNode value = field.getValue();
+                row.put(column(field.getKey()), value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString());
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.spartans.cricket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bulk import of squad players and fixtures from CSV or NDJSON.
+ * <p>
+ * The body is read row by row and each valid row is persisted straight away; every {@code spartans.import.batch-size}
+ * rows the session is flushed as JDBC batches and cleared, so memory stays flat however long the file is. Both
+ * entities take their ids from pooled sequences, which is what lets Hibernate batch the inserts. All rows go in
+ * one transaction; invalid rows are skipped and listed in the {@link ImportReport}. Derived state (search, stats,
+ * leaderboards, homepage) is rebuilt once afterwards through a {@link ContentReloadedEvent}.
+ */
+@Service
+public class ImportService {
+
+    public static final String PLAYERS = "players";
+    public static final String FIXTURES = "fixtures";
+
+    private static final List<String> STATUSES = List.of("Upcoming", "Live", "Completed");
+    private static final int MAX_TEXT = 255;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Value("${spartans.import.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * Imports {@code body} as {@code kind} (players or fixtures) in {@code format} (csv or ndjson). A dry run
+     * validates every row and reports what would be imported without writing anything.
+     */
+    public ImportReport importRows(String kind, String format, InputStream body, boolean dryRun) throws IOException {
+        Function<Map<String, String>, Object> mapper;
+        Class<?> type;
+        if (PLAYERS.equals(kind)) {
+            mapper = ImportService::player;
+            type = Player.class;
+        } else if (FIXTURES.equals(kind)) {
+            mapper = ImportService::fixture;
+            type = MatchFixture.class;
+        } else {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Nothing to import as " + kind);
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ImportRows rows;
+        try {
+            rows = "csv".equals(format) ? ImportRows.csv(reader) : ImportRows.ndjson(reader, objectMapper);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        ImportReport report = new ImportReport();
+        report.setDryRun(dryRun);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                session.setJdbcBatchSize(batchSize);
+                // Imported rows are not read back soon; keep them out of the second-level cache
+                session.setCacheMode(CacheMode.IGNORE);
+                try {
+                    write(rows, mapper, report, dryRun);
+                } finally {
+                    session.setJdbcBatchSize(null);
+                    session.setCacheMode(CacheMode.NORMAL);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataAccessException | PersistenceException e) {
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Import rolled back, nothing was saved: " + cause.getMessage());
+        }
+
+        if (!dryRun && report.getImported() > 0) {
+            events.publishEvent(new ContentReloadedEvent(type));
+        }
+        System.out.println("Imported " + report.getImported() + " of " + report.getRows() + " " + kind
+                + (dryRun ? " (dry run)" : ""));
+        return report;
+    }
+
+    private void write(ImportRows rows, Function<Map<String, String>, Object> mapper, ImportReport report,
+            boolean dryRun) {
+        int pending = 0;
+        while (true) {
+            Map<String, String> row;
+            try {
+                row = rows.next();
+            } catch (IllegalArgumentException e) {
+                report.row();
+                report.reject(rows.getRowLine(), e.getMessage());
+                continue;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (row == null) {
+                break;
+            }
+            report.row();
+            Object entity;
+            try {
+                entity = mapper.apply(row);
+            } catch (IllegalArgumentException e) {
+                report.reject(rows.getRowLine(), e.getMessage());
+                continue;
+            }
+            report.imported();
+            if (dryRun) {
+                continue;
+            }
+            entityManager.persist(entity);
+            if (++pending == batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Player player(Map<String, String> row) {
+        Player player = new Player();
+        player.setName(required(row, "name"));
+        player.setRole(required(row, "role"));
+        player.setBattingStyle(required(row, "battingStyle"));
+        player.setBowlingStyle(required(row, "bowlingStyle"));
+        player.setImageUrl(optional(row, "imageUrl"));
+        // An admin importing the squad vouches for it, unlike a self-registration
+        player.setApproved(flag(row, "approved", true));
+        player.setLegalConsent(flag(row, "legalConsent", false));
+        return player;
+    }
+
+    private static MatchFixture fixture(Map<String, String> row) {
+        MatchFixture match = new MatchFixture();
+        match.setOpponent(required(row, "opponent"));
+        match.setVenue(required(row, "venue"));
+        match.setMatchDate(date(required(row, "matchDate")));
+        String status = optional(row, "status");
+        match.setStatus(status == null ? "Upcoming" : STATUSES.stream().filter(s -> s.equalsIgnoreCase(status))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("status must be one of " + STATUSES)));
+        String result = optional(row, "result");
+        if (result == null && "Completed".equals(match.getStatus())) {
+            throw new IllegalArgumentException("result is required for a completed fixture");
+        }
+        match.setResult(result != null ? result : "Upcoming".equals(match.getStatus()) ? "VS" : "");
+        return match;
+    }
+
+    private static String required(Map<String, String> row, String field) {
+        String value = optional(row, field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static String optional(Map<String, String> row, String field) {
+        String value = row.get(ImportRows.column(field));
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (value.length() > MAX_TEXT) {
+            throw new IllegalArgumentException(field + " is longer than " + MAX_TEXT + " characters");
+        }
+        return value.trim();
+    }
+
+    private static boolean flag(Map<String, String> row, String field, boolean fallback) {
+        String value = optional(row, field);
+        if (value == null) {
+            return fallback;
+        }
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1":
+                return true;
+            case "false", "no", "n", "0":
+                return false;
+            default:
+                throw new IllegalArgumentException(field + " must be true or false");
+        }
+    }
+
+    // 2025-05-04, 2025-05-04T13:30 or 2025-05-04 13:30[:00]
+    private static LocalDateTime date(String value) {
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay()
+                    : LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("matchDate must look like 2025-05-04 or 2025-05-04T13:30");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.spartans.cricket.service;
+
+/**
+ * A public response serialized once: the JSON bytes, a gzip copy of them, and the version that tells one
+ * snapshot of a view from the next. Shared by every request until the content behind it changes.
+ */
+public class JsonSnapshot {
+
+    private final String version;
+    private final byte[] json;
+    private final byte[] gzip;
+
+    public JsonSnapshot(String version, byte[] json, byte[] gzip) {
+        this.version = version;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    // Callers must not modify the arrays; they are handed to every response as they are
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * The gzip-compressed JSON, or null when compressing did not make it smaller.
+     */
+    public byte[] getGzip() {
+        return gzip;
+    }
+}
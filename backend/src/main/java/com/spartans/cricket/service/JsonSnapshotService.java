@@ -0,0 +1,126 @@
+package com.spartans.cricket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Public read endpoints whose response is the same for every visitor keep it here as a {@link JsonSnapshot},
+ * serialized and compressed once instead of queried and serialized per request. A view is named by the
+ * controller that owns it, together with the entity types it is built from; a write to any of those types drops
+ * the snapshot and the next read rebuilds it.
+ */
+@Service
+public class JsonSnapshotService {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Versions restart with the process, so they carry its start time to keep old ETags from matching
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<String, View> views = new ConcurrentHashMap<>();
+
+    /**
+     * The current snapshot of a view, built from {@code body} if there is none. {@code sources} are the entity
+     * types whose writes make it stale; they must be the same on every call for a view.
+     */
+    public JsonSnapshot get(String view, Supplier<?> body, Class<?>... sources) {
+        return views.computeIfAbsent(view, name -> new View(List.of(sources))).get(body);
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        views.values().forEach(view -> {
+            if (view.sources.stream().anyMatch(event::isAbout)) {
+                view.drop();
+            }
+        });
+    }
+
+    @EventListener
+    public void onContentReloaded(ContentReloadedEvent event) {
+        views.values().forEach(view -> {
+            if (view.sources.stream().anyMatch(event::isAbout)) {
+                view.drop();
+            }
+        });
+    }
+
+    private JsonSnapshot build(Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize snapshot", e);
+        }
+        byte[] gzip = gzip(json);
+        return new JsonSnapshot(epoch + "-" + versions.incrementAndGet(), json,
+                gzip.length < json.length ? gzip : null);
+    }
+
+    // Built once per write, so the slowest, smallest level is worth it
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private class View {
+
+        private final List<Class<?>> sources;
+        private final AtomicLong changes = new AtomicLong();
+        private volatile JsonSnapshot snapshot;
+
+        private View(List<Class<?>> sources) {
+            this.sources = sources;
+        }
+
+        private JsonSnapshot get(Supplier<?> body) {
+            JsonSnapshot current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    long seen = changes.get();
+                    current = build(body.get());
+                    // A write that landed mid-build leaves the snapshot empty so the next read sees it
+                    if (changes.get() == seen) {
+                        snapshot = current;
+                    }
+                }
+                return current;
+            }
+        }
+
+        private void drop() {
+            changes.incrementAndGet();
+            snapshot = null;
+        }
+    }
+}
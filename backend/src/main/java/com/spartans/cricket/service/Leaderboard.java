@@ -0,0 +1,125 @@
+package com.spartans.cricket.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Rankings for one scope (the whole career or one season): each player's totals plus one ordered set per metric.
+ * Replacing a player's totals removes and re-inserts only that player's entries, and reading the top k walks k
+ * entries from the head of the set. Callers serialise access.
+ */
+class Leaderboard {
+
+    private final Map<Long, Totals> totals = new HashMap<>();
+    private final Map<LeaderboardService.Metric, NavigableSet<Ranked>> rankings =
+            new EnumMap<>(LeaderboardService.Metric.class);
+
+    Leaderboard() {
+        for (LeaderboardService.Metric metric : LeaderboardService.Metric.values()) {
+            rankings.put(metric, new TreeSet<>(order(metric)));
+        }
+    }
+
+    Totals get(Long playerId) {
+        return totals.getOrDefault(playerId, Totals.ZERO);
+    }
+
+    void put(Long playerId, Totals next) {
+        Totals previous = next.isEmpty() ? totals.remove(playerId) : totals.put(playerId, next);
+        rankings.forEach((metric, ranking) -> {
+            // Entries are found again by the exact value they were inserted with, so both sides use value()
+            if (previous != null && metric.qualifies(previous)) {
+                ranking.remove(new Ranked(playerId, metric.value(previous)));
+            }
+            if (!next.isEmpty() && metric.qualifies(next)) {
+                ranking.add(new Ranked(playerId, metric.value(next)));
+            }
+        });
+    }
+
+    void remove(Long playerId) {
+        put(playerId, Totals.ZERO);
+    }
+
+    boolean isEmpty() {
+        return totals.isEmpty();
+    }
+
+    List<Ranked> top(LeaderboardService.Metric metric, int limit, Predicate<Long> listed) {
+        List<Ranked> top = new ArrayList<>(limit);
+        Iterator<Ranked> it = rankings.get(metric).iterator();
+        while (top.size() < limit && it.hasNext()) {
+            Ranked entry = it.next();
+            if (listed.test(entry.playerId)) {
+                top.add(entry);
+            }
+        }
+        return top;
+    }
+
+    // Best value first; equal values fall back to the player id so ties always come out in the same order
+    private static Comparator<Ranked> order(LeaderboardService.Metric metric) {
+        Comparator<Ranked> byValue = Comparator.comparingDouble(r -> r.value);
+        return (metric.isLowerBetter() ? byValue : byValue.reversed()).thenComparingLong(r -> r.playerId);
+    }
+
+    static class Ranked {
+        final long playerId;
+        final double value;
+
+        Ranked(long playerId, double value) {
+            this.playerId = playerId;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Figures for one player in one scope. Immutable; changes produce a new instance.
+     */
+    static class Totals {
+        static final Totals ZERO = new Totals(0, 0, 0, 0, 0, 0, 0);
+
+        final int runs;
+        final int battingRuns;
+        final int dismissals;
+        final int wickets;
+        final int bowlingWickets;
+        final int ballsBowled;
+        final int runsConceded;
+
+        Totals(int runs, int battingRuns, int dismissals, int wickets, int bowlingWickets, int ballsBowled,
+                int runsConceded) {
+            this.runs = runs;
+            this.battingRuns = battingRuns;
+            this.dismissals = dismissals;
+            this.wickets = wickets;
+            this.bowlingWickets = bowlingWickets;
+            this.ballsBowled = ballsBowled;
+            this.runsConceded = runsConceded;
+        }
+
+        // Within a season every figure comes from recorded performances, so the baseline and recorded totals agree
+        static Totals ofSeason(int runs, int dismissals, int wickets, int ballsBowled, int runsConceded) {
+            return new Totals(runs, runs, dismissals, wickets, wickets, ballsBowled, runsConceded);
+        }
+
+        Totals plus(int sign, int runs, int dismissals, int wickets, int ballsBowled, int runsConceded) {
+            return new Totals(this.runs + sign * runs, battingRuns + sign * runs, this.dismissals + sign * dismissals,
+                    this.wickets + sign * wickets, bowlingWickets + sign * wickets,
+                    this.ballsBowled + sign * ballsBowled, this.runsConceded + sign * runsConceded);
+        }
+
+        boolean isEmpty() {
+            return runs == 0 && battingRuns == 0 && dismissals == 0 && wickets == 0 && bowlingWickets == 0
+                    && ballsBowled == 0 && runsConceded == 0;
+        }
+    }
+}
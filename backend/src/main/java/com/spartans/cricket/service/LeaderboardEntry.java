@@ -0,0 +1,35 @@
+package com.spartans.cricket.service;
+
+/**
+ * One row of a leaderboard as returned by {@link LeaderboardService#top}.
+ */
+public class LeaderboardEntry {
+
+    private final int rank;
+    private final Long playerId;
+    private final String name;
+    private final double value;
+
+    public LeaderboardEntry(int rank, Long playerId, String name, double value) {
+        this.rank = rank;
+        this.playerId = playerId;
+        this.name = name;
+        this.value = Math.round(value * 100) / 100.0;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,257 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.model.PlayerPerformance;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import com.spartans.cricket.repository.PlayerPerformanceRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import com.spartans.cricket.repository.PlayerTotals;
+import com.spartans.cricket.repository.SeasonTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Player leaderboards held in memory: one {@link Leaderboard} for career figures and one per season (calendar year
+ * of the fixture date). Player and performance events move a single player's entries in O(log n); reads walk the
+ * first k entries and never touch the database. Everything is rebuilt from the tables when the application starts.
+ */
+@Service
+public class LeaderboardService {
+
+    public enum Metric {
+        RUNS(false),
+        WICKETS(false),
+        BATTING_AVERAGE(false),
+        BOWLING_AVERAGE(true),
+        ECONOMY(true);
+
+        private final boolean lowerBetter;
+
+        Metric(boolean lowerBetter) {
+            this.lowerBetter = lowerBetter;
+        }
+
+        boolean isLowerBetter() {
+            return lowerBetter;
+        }
+
+        // Averages and economy need at least one dismissal, wicket or over behind them to mean anything
+        boolean qualifies(Leaderboard.Totals t) {
+            switch (this) {
+                case RUNS: return t.runs > 0;
+                case WICKETS: return t.wickets > 0;
+                case BATTING_AVERAGE: return t.dismissals > 0;
+                case BOWLING_AVERAGE: return t.bowlingWickets > 0;
+                default: return t.ballsBowled >= 6;
+            }
+        }
+
+        double value(Leaderboard.Totals t) {
+            switch (this) {
+                case RUNS: return t.runs;
+                case WICKETS: return t.wickets;
+                case BATTING_AVERAGE: return (double) t.battingRuns / t.dismissals;
+                case BOWLING_AVERAGE: return (double) t.runsConceded / t.bowlingWickets;
+                default: return t.runsConceded * 6.0 / t.ballsBowled;
+            }
+        }
+
+        public static Metric parse(String name) {
+            String key = name.trim().replace("-", "_").toUpperCase(Locale.ROOT);
+            if ("AVERAGE".equals(key)) {
+                return BATTING_AVERAGE;
+            }
+            for (Metric metric : values()) {
+                if (metric.name().equals(key) || metric.name().replace("_", "").equals(key)) {
+                    return metric;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown leaderboard metric " + name);
+        }
+    }
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerPerformanceRepository performanceRepository;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    // Guarded by lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Leaderboard career = new Leaderboard();
+    private final Map<Integer, Leaderboard> seasons = new TreeMap<>();
+    private final Map<Long, String> listedNames = new HashMap<>(); // approved players only
+    private final Map<Long, Integer> matchSeasons = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            career = new Leaderboard();
+            seasons.clear();
+            listedNames.clear();
+            matchSeasons.clear();
+            for (PlayerTotals p : playerRepository.findAllTotals()) {
+                career.put(p.getId(), new Leaderboard.Totals(p.getRuns(), p.getBattingRuns(), p.getDismissals(),
+                        p.getWickets(), p.getBowlingWickets(), p.getBallsBowled(), p.getRunsConceded()));
+                if (p.isApproved()) {
+                    listedNames.put(p.getId(), p.getName());
+                }
+            }
+            for (MatchFixture match : matchFixtureRepository.findAll()) {
+                matchSeasons.put(match.getId(), season(match));
+            }
+            for (SeasonTotals s : performanceRepository.sumBySeason()) {
+                seasons.computeIfAbsent(s.getSeason(), year -> new Leaderboard()).put(s.getPlayerId(),
+                        Leaderboard.Totals.ofSeason((int) s.getRuns(), (int) s.getDismissals(), (int) s.getWickets(),
+                                (int) s.getBallsBowled(), (int) s.getRunsConceded()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("Leaderboards built for " + listedNames.size() + " player(s) across "
+                + seasons.size() + " season(s)");
+    }
+
+    /**
+     * The first {@code limit} approved players for a metric, over the whole career or a single season.
+     */
+    public List<LeaderboardEntry> top(Metric metric, Integer season, int limit) {
+        lock.readLock().lock();
+        try {
+            Leaderboard board = season == null ? career : seasons.get(season);
+            if (board == null) {
+                return List.of();
+            }
+            List<LeaderboardEntry> entries = new ArrayList<>(limit);
+            for (Leaderboard.Ranked r : board.top(metric, limit, listedNames::containsKey)) {
+                entries.add(new LeaderboardEntry(entries.size() + 1, r.playerId, listedNames.get(r.playerId), r.value));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Integer> getSeasons() {
+        lock.readLock().lock();
+        try {
+            List<Integer> years = new ArrayList<>();
+            seasons.forEach((year, board) -> {
+                if (!board.isEmpty()) {
+                    years.add(year);
+                }
+            });
+            return years;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!event.isAbout(Player.class) && !event.isAbout(PlayerPerformance.class)
+                && !event.isAbout(MatchFixture.class)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.isAbout(Player.class)) {
+                onPlayerChanged(event.getAfter() != null ? event.<Player>getAfter() : event.<Player>getBefore(),
+                        event.getAfter() == null);
+            } else if (event.isAbout(PlayerPerformance.class)) {
+                applyPerformance(event.getBefore(), -1);
+                applyPerformance(event.getAfter(), 1);
+            } else {
+                onFixtureChanged(event.getBefore(), event.getAfter());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onContentReloaded(ContentReloadedEvent event) {
+        if (event.isAbout(Player.class) || event.isAbout(PlayerPerformance.class) || event.isAbout(MatchFixture.class)) {
+            rebuild();
+        }
+    }
+
+    private void onPlayerChanged(Player player, boolean deleted) {
+        if (deleted) {
+            career.remove(player.getId());
+            seasons.values().forEach(board -> board.remove(player.getId()));
+            listedNames.remove(player.getId());
+            return;
+        }
+        career.put(player.getId(), new Leaderboard.Totals(player.getRuns(), player.getBattingRuns(),
+                player.getDismissals(), player.getWickets(), player.getBowlingWickets(), player.getBallsBowled(),
+                player.getRunsConceded()));
+        if (player.isApproved()) {
+            listedNames.put(player.getId(), player.getName());
+        } else {
+            listedNames.remove(player.getId());
+        }
+    }
+
+    // Fixture mappings are kept after a delete: the fixture's performances are removed after it, and still need it
+    private void onFixtureChanged(MatchFixture before, MatchFixture after) {
+        if (after == null) {
+            return;
+        }
+        Integer previous = matchSeasons.put(after.getId(), season(after));
+        if (before != null && !Objects.equals(previous, season(after))) {
+            // A date moved into another year; its performances follow it (rare, so the rows are re-read)
+            List<PlayerPerformance> rows = performanceRepository.findByMatchIdOrderById(after.getId());
+            rows.forEach(row -> apply(previous, row, -1));
+            rows.forEach(row -> apply(season(after), row, 1));
+        }
+    }
+
+    private void applyPerformance(PlayerPerformance row, int sign) {
+        if (row == null) {
+            return;
+        }
+        Integer season = matchSeasons.get(row.getMatchId());
+        if (season == null && !matchSeasons.containsKey(row.getMatchId())) {
+            season = matchFixtureRepository.findById(row.getMatchId()).map(LeaderboardService::season).orElse(null);
+            matchSeasons.put(row.getMatchId(), season);
+        }
+        apply(season, row, sign);
+    }
+
+    private void apply(Integer season, PlayerPerformance row, int sign) {
+        if (season == null) {
+            return;
+        }
+        Leaderboard board = seasons.computeIfAbsent(season, year -> new Leaderboard());
+        board.put(row.getPlayerId(), board.get(row.getPlayerId()).plus(sign, row.getRuns(), row.isOut() ? 1 : 0,
+                row.getWickets(), row.getBallsBowled(), row.getRunsConceded()));
+    }
+
+    private static Integer season(MatchFixture match) {
+        LocalDateTime date = match.getMatchDate();
+        return date != null ? date.getYear() : null;
+    }
+}
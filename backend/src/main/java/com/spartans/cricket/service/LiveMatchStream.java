@@ -0,0 +1,315 @@
+package com.spartans.cricket.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes live fixture changes to open {@code /api/matches/live/stream} connections.
+ * <p>
+ * Each connection is a parked async request, so it holds no servlet thread while idle. Writes are collected per
+ * fixture and flushed on the scheduler thread every {@code spartans.live.flush-ms}, so a burst of score edits
+ * becomes one frame per fixture and the fan-out cost does not grow with the edit rate. The scheduler only queues
+ * frames: each connection has its own short queue, written by a small pool of send threads, so a stalled client
+ * holds up neither the scheduler nor the other clients. A client that falls too far behind, or whose write has
+ * been stuck longer than {@code spartans.live.write-timeout-ms}, is disconnected. Frame ids carry a
+ * per-process epoch and a sequence number; a client whose {@code Last-Event-ID} is not the latest id gets the full
+ * current state as its first frame, so a dropped client loses nothing by reconnecting.
+ */
+@Service
+public class LiveMatchStream {
+
+    private static final String LIVE = "Live";
+    private static final long CONNECTION_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final long RECONNECT_DELAY_MS = 5000L;
+    private static final int MAX_QUEUED_FRAMES = 64;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final long writeTimeoutNanos;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // Guarded by this: current live fixtures, writes not yet flushed (null = deleted) and the last frame number
+    private final Map<Long, MatchFixture> live = new LinkedHashMap<>();
+    private final Map<Long, MatchFixture> pending = new HashMap<>();
+    private long sequence;
+
+    public LiveMatchStream(@Value("${spartans.live.send-threads:4}") int sendThreads,
+            @Value("${spartans.live.write-timeout-ms:10000}") long writeTimeoutMs) {
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(sendThreads, task -> {
+            Thread thread = new Thread(task, "live-send-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadLiveMatches() {
+        for (MatchFixture match : matchFixtureRepository.findByStatusOrderByMatchDateAsc(LIVE,
+                org.springframework.data.domain.Limit.unlimited())) {
+            live.put(match.getId(), match);
+        }
+    }
+
+    @EventListener
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        if (!event.isAbout(MatchFixture.class)) {
+            return;
+        }
+        MatchFixture before = event.getBefore();
+        MatchFixture after = event.getAfter();
+        Long id = after != null ? after.getId() : before.getId();
+        boolean wasLive = live.containsKey(id) || (before != null && LIVE.equals(before.getStatus()));
+        boolean isLive = after != null && LIVE.equals(after.getStatus());
+        if (wasLive || isLive) {
+            pending.put(id, after);
+        }
+    }
+
+    // Bulk-written fixtures that are live go out with the next flush like any other change
+    @EventListener
+    public synchronized void onContentReloaded(ContentReloadedEvent event) {
+        if (event.isAbout(MatchFixture.class)) {
+            for (MatchFixture match : matchFixtureRepository.findByStatusOrderByMatchDateAsc(LIVE,
+                    org.springframework.data.domain.Limit.unlimited())) {
+                if (!live.containsKey(match.getId())) {
+                    pending.put(match.getId(), match);
+                }
+            }
+        }
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(CONNECTION_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::forget);
+        emitter.onTimeout(subscriber::forget);
+        emitter.onError(e -> subscriber.forget());
+
+        synchronized (this) {
+            if (!currentId().equals(lastEventId)) {
+                subscriber.offer(SseEmitter.event()
+                        .id(currentId())
+                        .name("snapshot")
+                        .reconnectTime(RECONNECT_DELAY_MS)
+                        .data(toJson(new ArrayList<>(live.values())))
+                        .build());
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    // Frames are built under the lock and queued after it; the sending happens on the send threads
+    @Scheduled(fixedDelayString = "${spartans.live.flush-ms:500}")
+    public void flush() {
+        closeStalled();
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ArrayList<>();
+        List<Subscriber> recipients;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            pending.forEach((id, match) -> {
+                sequence++;
+                if (match == null) {
+                    live.remove(id);
+                    frames.add(SseEmitter.event().id(currentId()).name("removed").data("{\"id\":" + id + "}").build());
+                } else {
+                    if (LIVE.equals(match.getStatus())) {
+                        live.put(id, match);
+                    } else {
+                        live.remove(id);
+                    }
+                    // A fixture that just left Live is still sent once so clients see the final result
+                    frames.add(SseEmitter.event().id(currentId()).name("update").data(toJson(match)).build());
+                }
+            });
+            pending.clear();
+            recipients = List.copyOf(subscribers);
+        }
+        for (Subscriber subscriber : recipients) {
+            frames.forEach(subscriber::offer);
+        }
+    }
+
+    // Keeps idle connections open through proxies and clears out clients that went away
+    @Scheduled(fixedRateString = "${spartans.live.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.forEach(subscriber -> subscriber.offer(ping));
+    }
+
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // The blocked write itself only returns once the container gives up on the socket; no more frames are queued
+    // for the client meanwhile, and its emitter is completed as soon as the write returns
+    private void closeStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > writeTimeoutNanos) {
+                subscriber.close();
+            }
+        }
+    }
+
+    private String currentId() {
+        return epoch + "." + sequence;
+    }
+
+    // Serialised once per frame rather than once per connection
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise live match frame", e);
+        }
+    }
+
+    /**
+     * One connection's outgoing frames, in order. At most one send thread drains a queue at a time.
+     */
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+
+        // Guarded by this
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        // System.nanoTime() when the write in progress started, 0 while idle
+        private volatile long sendingSince;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                // Too far behind to catch up; it reconnects and starts again from a snapshot
+                if (queue.size() >= MAX_QUEUED_FRAMES) {
+                    close();
+                    return;
+                }
+                queue.add(frame);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            startDraining();
+        }
+
+        // Stops queueing and completes the emitter on a send thread, never on the caller's
+        private void close() {
+            subscribers.remove(this);
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            startDraining();
+        }
+
+        // The container ended the connection; there is nothing left to send or complete
+        private void forget() {
+            subscribers.remove(this);
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+        }
+
+        private void startDraining() {
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                forget();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                boolean complete;
+                synchronized (this) {
+                    frame = closed ? null : queue.poll();
+                    if (frame == null) {
+                        draining = false;
+                        complete = closed;
+                    } else {
+                        complete = false;
+                    }
+                }
+                if (frame == null) {
+                    if (complete) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                sendingSince = System.nanoTime();
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    forget();
+                } finally {
+                    sendingSince = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.model.BallEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Running totals for one fixture. Each ball is folded in once by {@link #apply(BallEvent)}; nothing here walks
+ * the event log again. Callers serialise writes (the engine locks on the instance) and read the last
+ * {@link #publish() published} scorecard, which is replaced rather than changed.
+ */
+class MatchScore {
+
+    private final Long matchId;
+    private final List<InningsState> innings = new ArrayList<>();
+    // Views of finished innings do not change, so they are built once
+    private final List<Scorecard.Innings> closedInnings = new ArrayList<>();
+    private int ballCount;
+    private volatile Scorecard scorecard;
+
+    MatchScore(Long matchId) {
+        this.matchId = matchId;
+        this.scorecard = Scorecard.empty(matchId);
+    }
+
+    int getBallCount() {
+        return ballCount;
+    }
+
+    int getCurrentInnings() {
+        return innings.isEmpty() ? 1 : innings.get(innings.size() - 1).number;
+    }
+
+    Scorecard getScorecard() {
+        return scorecard;
+    }
+
+    void apply(BallEvent ball) {
+        InningsState state = inningsFor(ball.getInnings());
+        boolean legal = ball.isLegalDelivery();
+        boolean wide = BallEvent.WIDE.equals(ball.getExtraType());
+        int total = ball.getRuns() + ball.getExtras();
+
+        state.runs += total;
+        state.extras += ball.getExtras();
+
+        BatterState batter = state.batter(ball.getBatter());
+        if (!wide) {
+            batter.balls++;
+        }
+        batter.runs += ball.getRuns();
+        if (ball.getRuns() == 4) {
+            batter.fours++;
+        } else if (ball.getRuns() == 6) {
+            batter.sixes++;
+        }
+
+        // Byes and leg byes are not charged to the bowler; wides and no-balls are
+        BowlerState bowler = state.bowler(ball.getBowler());
+        int conceded = ball.getRuns() + (legal ? 0 : ball.getExtras());
+        bowler.runs += conceded;
+        state.overRuns += conceded;
+        if (wide) {
+            bowler.wides++;
+        } else if (!legal) {
+            bowler.noBalls++;
+        }
+
+        state.partnershipRuns += total;
+        state.partnershipBatters.add(ball.getBatter());
+        if (legal) {
+            state.legalBalls++;
+            state.partnershipBalls++;
+            bowler.legalBalls++;
+            if (state.legalBalls % 6 == 0) {
+                if (state.overRuns == 0) {
+                    bowler.maidens++;
+                }
+                state.overRuns = 0;
+            }
+        }
+
+        if (ball.isWicket()) {
+            state.wickets++;
+            String dismissed = ball.getDismissedBatter() != null ? ball.getDismissedBatter() : ball.getBatter();
+            BatterState out = state.batter(dismissed);
+            out.out = true;
+            out.dismissal = ball.getDismissal();
+            if (ball.getDismissal() == null || !ball.getDismissal().toLowerCase(Locale.ROOT).contains("run out")) {
+                bowler.wickets++;
+            }
+            state.partnershipRuns = 0;
+            state.partnershipBalls = 0;
+            state.partnershipBatters.clear();
+        }
+        ballCount++;
+    }
+
+    /**
+     * Replaces the readable scorecard with the current totals. Only the innings in progress is rebuilt.
+     */
+    void publish() {
+        List<Scorecard.Innings> views = new ArrayList<>(closedInnings);
+        if (!innings.isEmpty()) {
+            views.add(innings.get(innings.size() - 1).toView());
+        }
+        scorecard = new Scorecard(matchId, ballCount, List.copyOf(views));
+    }
+
+    private InningsState inningsFor(int number) {
+        InningsState current = innings.isEmpty() ? null : innings.get(innings.size() - 1);
+        if (current != null && current.number == number) {
+            return current;
+        }
+        if (current != null) {
+            closedInnings.add(current.toView());
+        }
+        InningsState next = new InningsState(number);
+        innings.add(next);
+        return next;
+    }
+
+    private static class InningsState {
+        final int number;
+        int runs;
+        int wickets;
+        int legalBalls;
+        int extras;
+        int overRuns;
+        int partnershipRuns;
+        int partnershipBalls;
+        final Set<String> partnershipBatters = new LinkedHashSet<>();
+        final Map<String, BatterState> batting = new LinkedHashMap<>();
+        final Map<String, BowlerState> bowling = new LinkedHashMap<>();
+
+        InningsState(int number) {
+            this.number = number;
+        }
+
+        BatterState batter(String name) {
+            return batting.computeIfAbsent(name, n -> new BatterState());
+        }
+
+        BowlerState bowler(String name) {
+            return bowling.computeIfAbsent(name, n -> new BowlerState());
+        }
+
+        Scorecard.Innings toView() {
+            List<Scorecard.BattingLine> battingLines = new ArrayList<>(batting.size());
+            batting.forEach((name, b) -> battingLines.add(
+                    new Scorecard.BattingLine(name, b.runs, b.balls, b.fours, b.sixes, b.out, b.dismissal)));
+            List<Scorecard.BowlingLine> bowlingLines = new ArrayList<>(bowling.size());
+            bowling.forEach((name, b) -> bowlingLines.add(
+                    new Scorecard.BowlingLine(name, b.legalBalls, b.maidens, b.runs, b.wickets, b.wides, b.noBalls)));
+            return new Scorecard.Innings(number, runs, wickets, legalBalls, extras,
+                    List.copyOf(battingLines), List.copyOf(bowlingLines),
+                    new Scorecard.Partnership(partnershipRuns, partnershipBalls, List.copyOf(partnershipBatters)));
+        }
+    }
+
+    private static class BatterState {
+        int runs;
+        int balls;
+        int fours;
+        int sixes;
+        boolean out;
+        String dismissal;
+    }
+
+    private static class BowlerState {
+        int legalBalls;
+        int maidens;
+        int runs;
+        int wickets;
+        int wides;
+        int noBalls;
+    }
+}
@@ -0,0 +1,96 @@
+package com.spartans.cricket.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of one queued upload, as reported by {@code /api/jobs/{id}}. Fields are written by the worker and read
+ * by request threads, hence volatile; {@code entityIds} are set once the entities have been saved.
+ */
+public class MediaJob {
+
+    public enum Status { QUEUED, PROCESSING, DONE, FAILED }
+
+    private final String id;
+    private final String kind;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile String stage = "queued";
+    private volatile int progress;
+    private volatile List<Long> entityIds = List.of();
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    MediaJob(String id, String kind) {
+        this.id = id;
+        this.kind = kind;
+    }
+
+    void advance(String stage, int progress) {
+        this.status = Status.PROCESSING;
+        this.stage = stage;
+        this.progress = progress;
+    }
+
+    void done(List<Long> entityIds) {
+        this.entityIds = List.copyOf(entityIds);
+        this.stage = "done";
+        this.progress = 100;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.DONE;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    // What the job creates or updates: player, gallery or gallery-batch
+    public String getKind() {
+        return kind;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    // Rough percentage, stepped per stage
+    public int getProgress() {
+        return progress;
+    }
+
+    // The saved entity when the job wrote exactly one
+    public Long getEntityId() {
+        List<Long> ids = entityIds;
+        return ids.size() == 1 ? ids.get(0) : null;
+    }
+
+    public List<Long> getEntityIds() {
+        return entityIds;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,214 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.storage.ImageService;
+import com.spartans.cricket.storage.StoredImage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs image uploads off the request thread.
+ * <p>
+ * The request only moves the multipart body into the staging directory and answers 202 with a {@link MediaJob};
+ * a small fixed pool then hashes and stores the image, renders its renditions and hands the result to the caller's
+ * {@link Finisher}, which saves the entity once with the image already attached. Other media work, such as a
+ * finalised batch upload, is queued as a {@link Task} on the same pool. The queue in front of the pool is
+ * bounded: when it is full the upload is refused with 503 and a Retry-After instead of piling up on disk. Jobs are
+ * kept in memory and forgotten {@code spartans.jobs.retain-minutes} after they finish.
+ */
+@Service
+public class MediaJobService {
+
+    /**
+     * Saves the entity for a stored image and returns its id. Runs on a worker thread, so no request-scoped state.
+     */
+    public interface Finisher {
+        Long finish(StoredImage image) throws Exception;
+    }
+
+    /**
+     * Any other queued work: reports its progress on the job and returns the ids of what it saved.
+     */
+    public interface Task {
+        List<Long> run(MediaJob job) throws Exception;
+    }
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spartans.jobs.retain-minutes:30}")
+    private long retainMinutes;
+
+    private final Path staging;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, MediaJob> jobs = new ConcurrentHashMap<>();
+
+    public MediaJobService(@Value("${spartans.jobs.staging-dir:./uploads/staging}") String staging,
+            @Value("${spartans.jobs.workers:2}") int workers,
+            @Value("${spartans.jobs.queue-capacity:20}") int queueCapacity) throws IOException {
+        this.staging = Paths.get(staging).toAbsolutePath().normalize();
+        Files.createDirectories(this.staging);
+        // Jobs do not survive a restart, so neither should their staged uploads
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(this.staging, "*.upload")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), task -> {
+                    Thread thread = new Thread(task, "media-job-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stages {@code image} and queues it. Throws 503 with Retry-After when the queue is full.
+     */
+    public MediaJob submit(String kind, MultipartFile image, Finisher finisher) throws IOException {
+        String id = UUID.randomUUID().toString();
+        Path staged = staging.resolve(id + ".upload");
+        long size = image.getSize();
+        // Usually a rename of the container's own temp file rather than a copy
+        image.transferTo(staged);
+        String contentType = image.getContentType();
+        MediaJob job;
+        try {
+            job = submit(id, kind, running -> {
+                try {
+                    running.advance("storing", 20);
+                    StoredImage stored = imageService.store(staged, contentType);
+                    try {
+                        running.advance("renditions", 50);
+                        imageService.render(stored);
+                        running.advance("saving", 85);
+                        List<Long> ids = List.of(finisher.finish(stored));
+                        imageService.saved(stored);
+                        return ids;
+                    } catch (Exception e) {
+                        // Nothing was saved pointing at the image (unless it was already in use), so it goes again
+                        imageService.discard(stored);
+                        throw e;
+                    }
+                } finally {
+                    deleteStaged(staged);
+                }
+            });
+        } catch (ResponseStatusException e) {
+            deleteStaged(staged);
+            throw e;
+        }
+        recordUpload(kind, size);
+        return job;
+    }
+
+    /**
+     * Queues {@code task}. Throws 503 with Retry-After when the queue is full.
+     */
+    public MediaJob submit(String kind, Task task) {
+        return submit(UUID.randomUUID().toString(), kind, task);
+    }
+
+    private MediaJob submit(String id, String kind, Task task) {
+        MediaJob job = new MediaJob(id, kind);
+        jobs.put(id, job);
+        try {
+            workers.execute(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new Busy();
+        }
+        return job;
+    }
+
+    // Size of each uploaded file, as spartans.uploads.size by kind of upload
+    void recordUpload(String kind, long bytes) {
+        DistributionSummary.builder("spartans.uploads.size")
+                .description("Size of uploaded images")
+                .baseUnit("bytes")
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    public Optional<MediaJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public int getQueued() {
+        return workers.getQueue().size();
+    }
+
+    private void run(MediaJob job, Task task) {
+        try {
+            job.done(task.run(job));
+        } catch (Exception e) {
+            System.err.println("Media job " + job.getId() + " (" + job.getKind() + ") failed: " + e.getMessage());
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private static void deleteStaged(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            System.err.println("Failed to delete staged upload " + staged + ": " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void forgetFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retainMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private static class Busy extends ResponseStatusException {
+        Busy() {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "Too many uploads in progress, try again shortly");
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "5");
+            return headers;
+        }
+    }
+}
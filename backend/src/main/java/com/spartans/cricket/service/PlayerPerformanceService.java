@@ -0,0 +1,187 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.model.PlayerPerformance;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import com.spartans.cricket.repository.PlayerPerformanceRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Records per-fixture performances and keeps each player's career aggregates in step. Every change applies the
+ * difference between the old and new row to the player in one UPDATE; history is only consulted (through an index,
+ * for a single row) when a correction removes the innings or spell that held the player's best figures.
+ */
+@Service
+public class PlayerPerformanceService {
+
+    @Autowired
+    private PlayerPerformanceRepository performanceRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    public PlayerPerformance record(PlayerPerformance performance) {
+        validate(performance);
+        if (performance.getPlayerId() == null || performance.getMatchId() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Player and match are required");
+        }
+        if (!playerRepository.existsById(performance.getPlayerId())
+                || !matchFixtureRepository.existsById(performance.getMatchId())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Player or match not found");
+        }
+        if (performanceRepository.existsByPlayerIdAndMatchId(performance.getPlayerId(), performance.getMatchId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Performance already recorded for this player and match");
+        }
+        performance.setId(null);
+        Player playerBefore = ContentChangedEvent.copyOf(loadPlayer(performance.getPlayerId()));
+        PlayerPerformance saved = transactionTemplate.execute(status -> {
+            PlayerPerformance row = performanceRepository.save(performance);
+            applyChange(null, row);
+            return row;
+        });
+        publish(ContentChangedEvent.created(saved), playerBefore);
+        return saved;
+    }
+
+    public PlayerPerformance correct(Long id, PlayerPerformance details) {
+        validate(details);
+        PlayerPerformance existing = performanceRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Performance not found"));
+        PlayerPerformance before = ContentChangedEvent.copyOf(existing);
+        Player playerBefore = ContentChangedEvent.copyOf(loadPlayer(existing.getPlayerId()));
+        // Player and match stay fixed; a wrong pairing is deleted and recorded again
+        existing.setRuns(details.getRuns());
+        existing.setBallsFaced(details.getBallsFaced());
+        existing.setOut(details.isOut());
+        existing.setBallsBowled(details.getBallsBowled());
+        existing.setRunsConceded(details.getRunsConceded());
+        existing.setWickets(details.getWickets());
+        PlayerPerformance saved = transactionTemplate.execute(status -> {
+            PlayerPerformance row = performanceRepository.save(existing);
+            applyChange(before, row);
+            return row;
+        });
+        publish(ContentChangedEvent.updated(before, saved), playerBefore);
+        return saved;
+    }
+
+    public void delete(Long id) {
+        performanceRepository.findById(id).ifPresent(existing -> {
+            Player player = playerRepository.findById(existing.getPlayerId()).orElse(null);
+            if (player == null) {
+                // An orphan of a deleted player: no career totals or rankings left to adjust
+                performanceRepository.delete(existing);
+                return;
+            }
+            Player playerBefore = ContentChangedEvent.copyOf(player);
+            transactionTemplate.executeWithoutResult(status -> {
+                performanceRepository.delete(existing);
+                applyChange(existing, null);
+            });
+            publish(ContentChangedEvent.deleted(existing), playerBefore);
+        });
+    }
+
+    // A deleted fixture takes its performances, and their share of the career totals, with it
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getAfter() != null) {
+            return;
+        }
+        if (event.isAbout(MatchFixture.class)) {
+            Long matchId = event.<MatchFixture>getBefore().getId();
+            performanceRepository.findByMatchIdOrderById(matchId).forEach(row -> delete(row.getId()));
+        } else if (event.isAbout(Player.class)) {
+            performanceRepository.deleteByPlayerId(event.<Player>getBefore().getId());
+        }
+    }
+
+    private void applyChange(PlayerPerformance before, PlayerPerformance after) {
+        Long playerId = after != null ? after.getPlayerId() : before.getPlayerId();
+        playerRepository.addCareerTotals(playerId,
+                (after != null ? 1 : 0) - (before != null ? 1 : 0),
+                batted(after) - batted(before),
+                runs(after) - runs(before),
+                (after != null ? after.getBallsFaced() : 0) - (before != null ? before.getBallsFaced() : 0),
+                dismissed(after) - dismissed(before),
+                (after != null ? after.getBallsBowled() : 0) - (before != null ? before.getBallsBowled() : 0),
+                (after != null ? after.getRunsConceded() : 0) - (before != null ? before.getRunsConceded() : 0),
+                wickets(after) - wickets(before));
+
+        // Best figures only ever improve through the new row; a worse or removed old row may have held them
+        if (after != null) {
+            playerRepository.raiseHighScore(playerId, after.getRuns());
+            if (after.getWickets() > 0) {
+                playerRepository.improveBestBowling(playerId, after.getWickets(), after.getRunsConceded());
+            }
+        }
+        if (before != null && (after == null || after.getRuns() < before.getRuns())) {
+            playerRepository.setHighScore(playerId, performanceRepository.findFirstByPlayerIdOrderByRunsDesc(playerId)
+                    .map(PlayerPerformance::getRuns).orElse(0));
+        }
+        if (before != null && before.getWickets() > 0 && (after == null || worseSpell(after, before))) {
+            PlayerPerformance best = performanceRepository
+                    .findFirstByPlayerIdAndWicketsGreaterThanOrderByWicketsDescRunsConcededAsc(playerId, 0)
+                    .orElse(null);
+            playerRepository.setBestBowling(playerId, best != null ? best.getWickets() : 0,
+                    best != null ? best.getRunsConceded() : 0);
+        }
+    }
+
+    private void publish(ContentChangedEvent performanceEvent, Player playerBefore) {
+        events.publishEvent(performanceEvent);
+        events.publishEvent(ContentChangedEvent.updated(playerBefore, loadPlayer(playerBefore.getId())));
+    }
+
+    private Player loadPlayer(Long id) {
+        return playerRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Player not found"));
+    }
+
+    private static boolean worseSpell(PlayerPerformance after, PlayerPerformance before) {
+        return after.getWickets() < before.getWickets()
+                || (after.getWickets() == before.getWickets() && after.getRunsConceded() > before.getRunsConceded());
+    }
+
+    private static int batted(PlayerPerformance p) {
+        return p != null && p.hasBatted() ? 1 : 0;
+    }
+
+    private static int runs(PlayerPerformance p) {
+        return p != null ? p.getRuns() : 0;
+    }
+
+    private static int dismissed(PlayerPerformance p) {
+        return p != null && p.isOut() ? 1 : 0;
+    }
+
+    private static int wickets(PlayerPerformance p) {
+        return p != null ? p.getWickets() : 0;
+    }
+
+    private static void validate(PlayerPerformance p) {
+        if (p.getRuns() < 0 || p.getBallsFaced() < 0 || p.getBallsBowled() < 0 || p.getRunsConceded() < 0
+                || p.getWickets() < 0 || p.getWickets() > 10) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Figures must be non-negative and at most 10 wickets");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.spartans.cricket.service;
+
+import java.util.List;
+
+/**
+ * Read-only scorecard for one fixture, as materialised by {@link ScoringEngine}. Instances are never modified
+ * after construction, so they can be handed to any number of readers while the next ball is being folded in.
+ */
+public class Scorecard {
+
+    private final Long matchId;
+    private final int balls;
+    private final List<Innings> innings;
+
+    public Scorecard(Long matchId, int balls, List<Innings> innings) {
+        this.matchId = matchId;
+        this.balls = balls;
+        this.innings = innings;
+    }
+
+    public static Scorecard empty(Long matchId) {
+        return new Scorecard(matchId, 0, List.of());
+    }
+
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    // Number of events in the log, including wides and no-balls
+    public int getBalls() {
+        return balls;
+    }
+
+    public List<Innings> getInnings() {
+        return innings;
+    }
+
+    public static class Innings {
+        private final int number;
+        private final int runs;
+        private final int wickets;
+        private final String overs;
+        private final int extras;
+        private final double runRate;
+        private final List<BattingLine> batting;
+        private final List<BowlingLine> bowling;
+        private final Partnership partnership;
+
+        public Innings(int number, int runs, int wickets, int legalBalls, int extras, List<BattingLine> batting,
+                List<BowlingLine> bowling, Partnership partnership) {
+            this.number = number;
+            this.runs = runs;
+            this.wickets = wickets;
+            this.overs = overs(legalBalls);
+            this.extras = extras;
+            this.runRate = legalBalls == 0 ? 0 : round(runs * 6.0 / legalBalls);
+            this.batting = batting;
+            this.bowling = bowling;
+            this.partnership = partnership;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getWickets() {
+            return wickets;
+        }
+
+        public String getOvers() {
+            return overs;
+        }
+
+        public int getExtras() {
+            return extras;
+        }
+
+        public double getRunRate() {
+            return runRate;
+        }
+
+        public List<BattingLine> getBatting() {
+            return batting;
+        }
+
+        public List<BowlingLine> getBowling() {
+            return bowling;
+        }
+
+        public Partnership getPartnership() {
+            return partnership;
+        }
+    }
+
+    public static class BattingLine {
+        private final String name;
+        private final int runs;
+        private final int balls;
+        private final int fours;
+        private final int sixes;
+        private final double strikeRate;
+        private final boolean out;
+        private final String dismissal;
+
+        public BattingLine(String name, int runs, int balls, int fours, int sixes, boolean out, String dismissal) {
+            this.name = name;
+            this.runs = runs;
+            this.balls = balls;
+            this.fours = fours;
+            this.sixes = sixes;
+            this.strikeRate = balls == 0 ? 0 : round(runs * 100.0 / balls);
+            this.out = out;
+            this.dismissal = dismissal;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getBalls() {
+            return balls;
+        }
+
+        public int getFours() {
+            return fours;
+        }
+
+        public int getSixes() {
+            return sixes;
+        }
+
+        public double getStrikeRate() {
+            return strikeRate;
+        }
+
+        public boolean isOut() {
+            return out;
+        }
+
+        public String getDismissal() {
+            return dismissal;
+        }
+    }
+
+    public static class BowlingLine {
+        private final String name;
+        private final String overs;
+        private final int maidens;
+        private final int runs;
+        private final int wickets;
+        private final int wides;
+        private final int noBalls;
+        private final double economy;
+
+        public BowlingLine(String name, int legalBalls, int maidens, int runs, int wickets, int wides, int noBalls) {
+            this.name = name;
+            this.overs = overs(legalBalls);
+            this.maidens = maidens;
+            this.runs = runs;
+            this.wickets = wickets;
+            this.wides = wides;
+            this.noBalls = noBalls;
+            this.economy = legalBalls == 0 ? 0 : round(runs * 6.0 / legalBalls);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getOvers() {
+            return overs;
+        }
+
+        public int getMaidens() {
+            return maidens;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getWickets() {
+            return wickets;
+        }
+
+        public int getWides() {
+            return wides;
+        }
+
+        public int getNoBalls() {
+            return noBalls;
+        }
+
+        public double getEconomy() {
+            return economy;
+        }
+    }
+
+    public static class Partnership {
+        private final int runs;
+        private final int balls;
+        private final List<String> batters;
+
+        public Partnership(int runs, int balls, List<String> batters) {
+            this.runs = runs;
+            this.balls = balls;
+            this.batters = batters;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getBalls() {
+            return balls;
+        }
+
+        public List<String> getBatters() {
+            return batters;
+        }
+    }
+
+    // "12.3" = twelve overs and three balls
+    private static String overs(int legalBalls) {
+        return (legalBalls / 6) + "." + (legalBalls % 6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
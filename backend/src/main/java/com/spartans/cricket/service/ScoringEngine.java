@@ -0,0 +1,118 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.model.BallEvent;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.repository.BallEventRepository;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ball-by-ball scoring. Every ball is appended to the {@link BallEvent} log and folded into that fixture's
+ * in-memory {@link MatchScore}; scorecard reads return the last materialised {@link Scorecard} without touching
+ * the database. Appends lock only their own fixture, so several matches can be scored at once. A fixture's state
+ * is rebuilt from its log the first time it is needed, and for every scored fixture when the application starts.
+ */
+@Service
+public class ScoringEngine {
+
+    private static final Set<String> EXTRA_TYPES = Set.of(
+            BallEvent.WIDE, BallEvent.NO_BALL, BallEvent.BYE, BallEvent.LEG_BYE);
+
+    @Autowired
+    private BallEventRepository ballEventRepository;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    private final Map<Long, MatchScore> scores = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        List<Long> matchIds = ballEventRepository.findScoredMatchIds();
+        matchIds.forEach(this::score);
+        if (!matchIds.isEmpty()) {
+            System.out.println("Scorecards rebuilt from the ball log for " + matchIds.size() + " fixture(s)");
+        }
+    }
+
+    public Scorecard getScorecard(Long matchId) {
+        // Only fixtures that exist get a cached score, so unknown ids cannot grow the map
+        if (!scores.containsKey(matchId) && !matchFixtureRepository.existsById(matchId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Match not found");
+        }
+        return score(matchId).getScorecard();
+    }
+
+    public Scorecard record(Long matchId, BallEvent ball) {
+        validate(ball);
+        if (!matchFixtureRepository.existsById(matchId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Match not found");
+        }
+        MatchScore score = score(matchId);
+        synchronized (score) {
+            if (ball.getInnings() < score.getCurrentInnings()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Innings " + ball.getInnings() + " is already closed");
+            }
+            ball.setId(null);
+            ball.setMatchId(matchId);
+            ball.setSequence(score.getBallCount() + 1);
+            ballEventRepository.save(ball);
+            score.apply(ball);
+            score.publish();
+            return score.getScorecard();
+        }
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.isAbout(MatchFixture.class) && event.getAfter() == null) {
+            Long matchId = event.<MatchFixture>getBefore().getId();
+            scores.remove(matchId);
+            ballEventRepository.deleteByMatchId(matchId);
+        }
+    }
+
+    // Replayed outside the map so the query never runs inside a ConcurrentHashMap bin lock. Balls are only
+    // recorded against the instance in the map, so the first replay to land there is never missing one.
+    private MatchScore score(Long matchId) {
+        MatchScore existing = scores.get(matchId);
+        if (existing != null) {
+            return existing;
+        }
+        MatchScore score = new MatchScore(matchId);
+        for (BallEvent ball : ballEventRepository.findByMatchIdOrderBySequenceAsc(matchId)) {
+            score.apply(ball);
+        }
+        score.publish();
+        existing = scores.putIfAbsent(matchId, score);
+        return existing != null ? existing : score;
+    }
+
+    private static void validate(BallEvent ball) {
+        if (ball.getBatter() == null || ball.getBatter().isBlank()
+                || ball.getBowler() == null || ball.getBowler().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batter and bowler are required");
+        }
+        if (ball.getRuns() < 0 || ball.getExtras() < 0 || ball.getInnings() < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Runs, extras and innings cannot be negative");
+        }
+        if (ball.getExtraType() != null && !EXTRA_TYPES.contains(ball.getExtraType())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown extra type " + ball.getExtraType());
+        }
+        if (ball.getExtraType() == null && ball.getExtras() > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Extras need an extra type");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.spartans.cricket.service;
+
+/**
+ * One search result: what it is, its id for follow-up requests and the text to show for it.
+ */
+public class SearchHit {
+
+    public static final String PLAYER = "player";
+    public static final String MATCH = "match";
+    public static final String GALLERY = "gallery";
+    public static final String ACHIEVEMENT = "achievement";
+
+    private final String type;
+    private final Long id;
+    private final String title;
+    private final String detail;
+
+    public SearchHit(String type, Long id, String title, String detail) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.detail = detail;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+}
@@ -0,0 +1,295 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentChangedEvent;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.Achievement;
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.repository.AchievementRepository;
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.GallerySummary;
+import com.spartans.cricket.repository.MatchFixtureRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import com.spartans.cricket.repository.PlayerSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over approved players, fixtures, gallery captions and achievements.
+ * <p>
+ * Text is folded to lower case without accents ("Müller" matches "muller") and split into terms. Terms live in a
+ * sorted map, so every query term is matched as a prefix with one range scan, which is what type-ahead needs;
+ * a document must match all query terms. Content events re-index the one document they are about, and the whole
+ * index is rebuilt from the tables when the application starts, into new maps that replace the old ones in one
+ * step. Searches never touch the database.
+ */
+@Service
+public class SearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final DateTimeFormatter MATCH_DATE = DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH);
+    // Indexed terms one query term may expand to as a prefix, taken in term order; without a cap a one-letter
+    // prefix walks most of the index
+    private static final int MAX_PREFIX_TERMS = 100;
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingInt((Candidate c) -> c.score).reversed()
+            .thenComparing(c -> c.hit.getTitle(), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchFixtureRepository matchFixtureRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    // Writers synchronise on this; readers take the current index and go straight to its concurrent maps
+    private volatile Index index = new Index();
+
+    // Built aside and swapped in, so searches meanwhile still see the previous index rather than a partial one
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Index built = new Index();
+        for (PlayerSummary p : playerRepository.findApprovedSummaries()) {
+            built.put(new SearchHit(SearchHit.PLAYER, p.getId(), p.getName(), p.getRole()),
+                    p.getName(), p.getRole(), p.getBattingStyle(), p.getBowlingStyle());
+        }
+        matchFixtureRepository.findAll().forEach(match -> putMatch(built, match));
+        for (GallerySummary g : galleryRepository.findSummaryPage(Limit.unlimited())) {
+            putGallery(built, g.getId(), g.getCaption(), g.getCategory(), g.getSubCategory());
+        }
+        achievementRepository.findAll().forEach(achievement -> putAchievement(built, achievement));
+        index = built;
+        System.out.println("Search index built: " + built.documents.size() + " documents, " + built.postings.size()
+                + " terms");
+    }
+
+    /**
+     * Documents matching every term of {@code query}, best first: exact term matches rank above prefix matches,
+     * then titles sort alphabetically. {@code type} optionally restricts the result to one {@link SearchHit} type.
+     */
+    public List<SearchHit> search(String query, String type, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Index current = index;
+        String keyPrefix = type != null ? type + ":" : "";
+        Map<String, Integer> scores = null;
+        for (String term : terms) {
+            Map<String, Integer> matches = new HashMap<>();
+            int expanded = 0;
+            for (Map.Entry<String, Set<String>> posting
+                    : current.postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                if (expanded++ == MAX_PREFIX_TERMS) {
+                    break;
+                }
+                int weight = posting.getKey().equals(term) ? 2 : 1;
+                for (String key : posting.getValue()) {
+                    if (key.startsWith(keyPrefix)) {
+                        matches.merge(key, weight, Math::max);
+                    }
+                }
+            }
+            if (scores == null) {
+                scores = matches;
+            } else {
+                scores.keySet().retainAll(matches.keySet());
+                scores.replaceAll((key, score) -> score + matches.get(key));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        // Only the best `limit` are kept: the head of the heap is the weakest of them
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        scores.forEach((key, score) -> {
+            Document document = current.documents.get(key);
+            if (document != null) {
+                best.add(new Candidate(document.hit, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        });
+        List<Candidate> ranked = new ArrayList<>(best);
+        ranked.sort(BEST_FIRST);
+        List<SearchHit> hits = new ArrayList<>(ranked.size());
+        ranked.forEach(candidate -> hits.add(candidate.hit));
+        return hits;
+    }
+
+    public int size() {
+        return index.documents.size();
+    }
+
+    @EventListener
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        Object after = event.getAfter();
+        Index current = index;
+        if (event.isAbout(Player.class)) {
+            Player player = after != null ? (Player) after : event.getBefore();
+            if (after != null && player.isApproved()) {
+                current.put(new SearchHit(SearchHit.PLAYER, player.getId(), player.getName(), player.getRole()),
+                        player.getName(), player.getRole(), player.getBattingStyle(), player.getBowlingStyle());
+            } else {
+                current.remove(SearchHit.PLAYER, player.getId());
+            }
+        } else if (event.isAbout(MatchFixture.class)) {
+            if (after != null) {
+                putMatch(current, (MatchFixture) after);
+            } else {
+                current.remove(SearchHit.MATCH, event.<MatchFixture>getBefore().getId());
+            }
+        } else if (event.isAbout(GalleryItem.class)) {
+            if (after != null) {
+                GalleryItem item = (GalleryItem) after;
+                putGallery(current, item.getId(), item.getCaption(), item.getCategory(), item.getSubCategory());
+            } else {
+                current.remove(SearchHit.GALLERY, event.<GalleryItem>getBefore().getId());
+            }
+        } else if (event.isAbout(Achievement.class)) {
+            if (after != null) {
+                putAchievement(current, (Achievement) after);
+            } else {
+                current.remove(SearchHit.ACHIEVEMENT, event.<Achievement>getBefore().getId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onContentReloaded(ContentReloadedEvent event) {
+        rebuild();
+    }
+
+    private static void putMatch(Index into, MatchFixture match) {
+        String date = match.getMatchDate() != null ? MATCH_DATE.format(match.getMatchDate()) : null;
+        into.put(new SearchHit(SearchHit.MATCH, match.getId(), "vs " + match.getOpponent(),
+                join(date, match.getVenue(), match.getStatus())),
+                match.getOpponent(), match.getVenue(), match.getStatus(), match.getResult(), date);
+    }
+
+    private static void putGallery(Index into, Long id, String caption, String category, String subCategory) {
+        String album = join(category, subCategory);
+        into.put(new SearchHit(SearchHit.GALLERY, id, caption != null && !caption.isBlank() ? caption : album, album),
+                caption, category, subCategory);
+    }
+
+    private static void putAchievement(Index into, Achievement achievement) {
+        into.put(new SearchHit(SearchHit.ACHIEVEMENT, achievement.getId(), achievement.getTitle(),
+                achievement.getAchievementYear()),
+                achievement.getTitle(), achievement.getAchievementYear(), achievement.getType());
+    }
+
+    /**
+     * Splits text into folded terms: accents stripped, lower case, broken on anything that is not a letter or digit.
+     */
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace("ß", "ss");
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static String join(String... parts) {
+        StringBuilder text = new StringBuilder();
+        for (String part : parts) {
+            if (part != null && !part.isBlank()) {
+                text.append(text.length() > 0 ? " · " : "").append(part);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * The document table and the sorted term postings that point into it.
+     */
+    private static class Index {
+        final Map<String, Document> documents = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<String, Set<String>> postings = new ConcurrentSkipListMap<>();
+
+        // New terms are added before stale ones go, so a concurrent reader never sees the document missing
+        void put(SearchHit hit, String... fields) {
+            String key = hit.getType() + ":" + hit.getId();
+            Set<String> terms = new HashSet<>();
+            for (String field : fields) {
+                terms.addAll(terms(field));
+            }
+            Document previous = documents.put(key, new Document(hit, terms));
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+            if (previous != null) {
+                previous.terms.stream().filter(term -> !terms.contains(term)).forEach(term -> unlink(term, key));
+            }
+        }
+
+        void remove(String type, Long id) {
+            String key = type + ":" + id;
+            Document previous = documents.remove(key);
+            if (previous != null) {
+                previous.terms.forEach(term -> unlink(term, key));
+            }
+        }
+
+        private void unlink(String term, String key) {
+            postings.computeIfPresent(term, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static class Document {
+        final SearchHit hit;
+        final Set<String> terms;
+
+        Document(SearchHit hit, Set<String> terms) {
+            this.hit = hit;
+            this.terms = terms;
+        }
+    }
+
+    private static class Candidate {
+        final SearchHit hit;
+        final int score;
+
+        Candidate(SearchHit hit, int score) {
+            this.hit = hit;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package com.spartans.cricket.service;
+
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.model.MatchFixture;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.storage.ImageStore;
+import com.spartans.cricket.storage.RenditionGenerator;
+import com.spartans.cricket.storage.StoredImage;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the database with realistic synthetic data at a chosen scale, for finding out how the site behaves with a
+ * club's worth of history rather than the handful of rows {@code DataInitializer} seeds. Started with the
+ * {@code generate} profile:
+ * <pre>
+ *   java -jar cricket-backend.jar --spring.profiles.active=generate --spring.main.web-application-type=none \
+ *        --spartans.generate.players=10000 --spartans.generate.join-requests=1000000
+ * </pre>
+ * Rows are added to what is already there, written through plain JDBC batches of {@code spartans.generate.batch-size}
+ * (one transaction per batch; on PostgreSQL add {@code reWriteBatchedInserts=true} to the URL). Every table draws
+ * from its own {@link Random} seeded from {@code spartans.generate.seed}, and dates count from a fixed day, so the
+ * same settings produce the same rows. A few percent of join requests and registrations repeat an earlier contact,
+ * spelt differently, as real duplicates are.
+ * <p>
+ * Players and gallery items point at {@code spartans.generate.photos} distinct phone-sized JPEGs with all their
+ * renditions. The image store is content-addressed, so distinct files rather than one per row is what a gallery
+ * of re-used photos looks like on disk anyway. When done, derived state is rebuilt and, unless
+ * {@code spartans.generate.exit=false}, the application exits.
+ */
+@Service
+@Profile("generate")
+public class SyntheticDataGenerator {
+
+    private static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 10, 1, 0, 0);
+    private static final double REPEAT_CONTACT = 0.03;
+
+    private static final String[] FIRST_NAMES = { "Aarav", "Ananya", "Arjun", "Ben", "Chris", "Daniel", "Deepak",
+            "Elena", "Farhan", "Hannah", "Imran", "Jonas", "Kavya", "Lukas", "Mahesh", "Maria", "Mohammed", "Nikhil",
+            "Noah", "Priya", "Rahul", "Sara", "Shreya", "Sophie", "Tim", "Usman", "Vikram", "Yusuf", "Zainab",
+            "Felix" };
+    private static final String[] LAST_NAMES = { "Ahmed", "Bauer", "Chaudhry", "Das", "Fischer", "Gupta", "Hoffmann",
+            "Iyer", "Khan", "Klein", "Krishnan", "Malik", "Mathew", "Meyer", "Nair", "Patel", "Qureshi", "Rao",
+            "Reddy", "Richter", "Schmidt", "Schneider", "Sharma", "Singh", "Smith", "Wagner", "Weber", "Williams",
+            "Wolf", "Zimmermann" };
+    private static final String[] DOMAINS = { "gmail.com", "web.de", "gmx.de", "outlook.com", "t-online.de",
+            "yahoo.com" };
+    private static final String[] ROLES = { "Batsman", "Bowler", "All-rounder", "Wicket-keeper" };
+    private static final String[] BATTING = { "Right-hand bat", "Left-hand bat" };
+    private static final String[] BOWLING = { "Right-arm fast", "Right-arm medium", "Right-arm offbreak",
+            "Leg spin", "Left-arm fast", "Slow left-arm orthodox" };
+    private static final String[] EXPERIENCE = { "Beginner", "Club", "League", "Professional" };
+    private static final String[] OPPONENTS = { "Super Kings", "Thunderbolts CC", "Warriors XI", "Mainz CC",
+            "Darmstadt Strikers", "Wiesbaden Lions", "Heidelberg CC", "Mannheim Tigers", "Offenbach Royals",
+            "Bonn Blasters", "Cologne Cavaliers", "Stuttgart Stallions", "Munich Mavericks", "Hanau Hawks",
+            "Giessen Gladiators", "Kassel Knights", "Koblenz Kings", "Marburg Mariners", "Fulda Falcons",
+            "Karlsruhe Chargers" };
+    private static final String[] VENUES = { "Spartans Home Ground", "City Oval", "Riverside Park",
+            "Sportpark Nord", "Uni Sportfeld", "Waldstadion Nebenplatz" };
+    private static final String[] MESSAGES = { "Played club cricket back home, looking for a team in Frankfurt.",
+            "Keen to join weekend practice sessions.", "New to the city and would love to play again.",
+            "Can keep wicket and open the batting.", "Looking for T20 games on weekends.", "" };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private RenditionGenerator renditionGenerator;
+
+    @Autowired
+    private DedupeService dedupeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${spartans.generate.players:10000}")
+    private int players;
+
+    @Value("${spartans.generate.fixtures:100000}")
+    private int fixtures;
+
+    @Value("${spartans.generate.join-requests:1000000}")
+    private int joinRequests;
+
+    @Value("${spartans.generate.registrations:1000000}")
+    private int registrations;
+
+    @Value("${spartans.generate.gallery:50000}")
+    private int gallery;
+
+    @Value("${spartans.generate.photos:50}")
+    private int photos;
+
+    @Value("${spartans.generate.photo-width:4032}")
+    private int photoWidth;
+
+    @Value("${spartans.generate.photo-height:3024}")
+    private int photoHeight;
+
+    @Value("${spartans.generate.seed:42}")
+    private long seed;
+
+    @Value("${spartans.generate.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${spartans.generate.exit:true}")
+    private boolean exit;
+
+    /**
+     * Runs once the application is up, after the services that load their state on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void generate() throws IOException {
+        long started = System.nanoTime();
+        List<StoredImage> stored = photos();
+        if (players > 0) {
+            players(stored);
+        }
+        if (fixtures > 0) {
+            fixtures();
+        }
+        if (gallery > 0) {
+            gallery(stored);
+        }
+        if (joinRequests > 0) {
+            joinRequests();
+        }
+        if (registrations > 0) {
+            registrations();
+        }
+
+        // Everything above bypassed Hibernate, so cached entities and derived state are rebuilt from the tables
+        entityManagerFactory.getCache().evictAll();
+        events.publishEvent(new ContentReloadedEvent(Player.class));
+        events.publishEvent(new ContentReloadedEvent(MatchFixture.class));
+        events.publishEvent(new ContentReloadedEvent(GalleryItem.class));
+        dedupeService.warmUp();
+        System.out.println("Synthetic data generated in "
+                + Duration.ofNanos(System.nanoTime() - started).toSeconds() + "s");
+
+        if (exit) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private List<StoredImage> photos() throws IOException {
+        Random random = new Random(seed);
+        List<StoredImage> stored = new ArrayList<>();
+        int count = players > 0 || gallery > 0 ? Math.max(1, photos) : 0;
+        for (int i = 0; i < count; i++) {
+            StoredImage image = imageStore.store(new ByteArrayInputStream(photo(random)), "image/jpeg");
+            renditionGenerator.generate(image.getHash(), image.getContentType());
+            stored.add(image);
+        }
+        if (count > 0) {
+            System.out.println("Stored " + count + " synthetic photo(s) with renditions");
+        }
+        return stored;
+    }
+
+    private void players(List<StoredImage> stored) {
+        Random random = new Random(seed + 1);
+        long firstId = nextFreeId("player");
+        insert("player", players, "INSERT INTO player (id, name, role, batting_style, bowling_style, matches, runs,"
+                + " wickets, image_content_type, image_hash, approved, legal_consent, created_at, batting_innings,"
+                + " batting_runs, dismissals, balls_faced, high_score, balls_bowled, runs_conceded, bowling_wickets,"
+                + " best_wickets, best_wickets_runs) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,"
+                + " ?, ?, ?, ?)", (ps, i) -> {
+                    String role = ROLES[random.nextInt(ROLES.length)];
+                    boolean bowls = !role.equals("Batsman") && !role.equals("Wicket-keeper");
+                    int matches = random.nextInt(250);
+                    int innings = matches - random.nextInt(matches / 10 + 1);
+                    int runs = innings * random.nextInt(bowls ? 20 : 45);
+                    int ballsBowled = bowls ? matches * (6 + random.nextInt(30)) : 0;
+                    int wickets = bowls ? ballsBowled / (18 + random.nextInt(30)) : 0;
+                    StoredImage photo = stored.get(i % stored.size());
+                    ps.setLong(1, firstId + i);
+                    ps.setString(2, name(random));
+                    ps.setString(3, role);
+                    ps.setString(4, BATTING[random.nextInt(BATTING.length)]);
+                    ps.setString(5, BOWLING[random.nextInt(BOWLING.length)]);
+                    ps.setInt(6, matches);
+                    ps.setInt(7, runs);
+                    ps.setInt(8, wickets);
+                    ps.setString(9, photo.getContentType());
+                    ps.setString(10, photo.getHash());
+                    ps.setBoolean(11, random.nextInt(10) > 0);
+                    ps.setBoolean(12, true);
+                    ps.setTimestamp(13, spread(i, players, Duration.ofDays(5 * 365), random));
+                    ps.setInt(14, innings);
+                    ps.setInt(15, runs);
+                    ps.setInt(16, innings - random.nextInt(innings / 5 + 1));
+                    ps.setInt(17, runs + runs / 4);
+                    ps.setInt(18, innings == 0 ? 0 : Math.min(runs, 20 + random.nextInt(130)));
+                    ps.setInt(19, ballsBowled);
+                    ps.setInt(20, ballsBowled * (5 + random.nextInt(4)) / 6);
+                    ps.setInt(21, wickets);
+                    ps.setInt(22, Math.min(wickets, random.nextInt(7)));
+                    ps.setInt(23, wickets == 0 ? 0 : 10 + random.nextInt(40));
+                });
+        restartSequence("player", firstId + players);
+    }
+
+    private void fixtures() {
+        Random random = new Random(seed + 2);
+        long firstId = nextFreeId("match_fixture");
+        // Mostly history, the last few percent still to be played
+        LocalDateTime first = ANCHOR.minusDays(25 * 365);
+        long step = Duration.ofDays(26 * 365).toMinutes() / fixtures;
+        insert("match_fixture", fixtures, "INSERT INTO match_fixture (id, opponent, match_date, venue, status, result)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", (ps, i) -> {
+                    LocalDateTime date = first.plusMinutes(step * i).withHour(10 + random.nextInt(6)).withMinute(0);
+                    boolean played = date.isBefore(ANCHOR);
+                    ps.setLong(1, firstId + i);
+                    ps.setString(2, OPPONENTS[random.nextInt(OPPONENTS.length)]);
+                    ps.setTimestamp(3, Timestamp.valueOf(date));
+                    ps.setString(4, VENUES[random.nextInt(VENUES.length)]);
+                    ps.setString(5, played ? "Completed" : "Upcoming");
+                    ps.setString(6, played ? result(random) : "VS");
+                });
+        restartSequence("match_fixture", firstId + fixtures);
+    }
+
+    private void gallery(List<StoredImage> stored) {
+        Random random = new Random(seed + 3);
+        long firstId = nextFreeId("gallery_item");
+        insert("gallery_item", gallery, "INSERT INTO gallery_item (id, category, sub_category, image_content_type,"
+                + " image_hash, caption) VALUES (?, ?, ?, ?, ?, ?)", (ps, i) -> {
+                    // Albums of a few dozen photos, one per match, seasons in order
+                    int album = i / 40;
+                    StoredImage photo = stored.get(random.nextInt(stored.size()));
+                    ps.setLong(1, firstId + i);
+                    ps.setString(2, "Season " + (2000 + album * 26 / Math.max(1, gallery / 40 + 1)));
+                    ps.setString(3, "vs " + OPPONENTS[album % OPPONENTS.length] + " #" + album);
+                    ps.setString(4, photo.getContentType());
+                    ps.setString(5, photo.getHash());
+                    ps.setString(6, random.nextInt(3) == 0 ? "" : "Match day " + album + ", photo " + (i % 40 + 1));
+                });
+        restartSequence("gallery_item", firstId + gallery);
+    }
+
+    private void joinRequests() {
+        Random random = new Random(seed + 4);
+        insert("join_request", joinRequests, "INSERT INTO join_request (name, email, phone, role, experience, message,"
+                + " status, legal_consent, created_at, email_key, phone_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, i) -> {
+                    int contact = contact(i, random);
+                    String email = email(contact, random);
+                    String phone = phone(contact, random);
+                    ps.setString(1, name(new Random(seed + contact)));
+                    ps.setString(2, email);
+                    ps.setString(3, phone);
+                    ps.setString(4, ROLES[random.nextInt(ROLES.length)]);
+                    ps.setString(5, EXPERIENCE[random.nextInt(EXPERIENCE.length)]);
+                    ps.setString(6, MESSAGES[random.nextInt(MESSAGES.length)]);
+                    ps.setString(7, random.nextInt(10) < 7 ? "NEW" : "PROCESSED");
+                    ps.setBoolean(8, true);
+                    ps.setTimestamp(9, spread(i, joinRequests, Duration.ofDays(3 * 365), random));
+                    ps.setString(10, DedupeService.emailKey(email));
+                    ps.setString(11, DedupeService.phoneKey(phone));
+                });
+    }
+
+    private void registrations() {
+        Random random = new Random(seed + 5);
+        insert("registration", registrations, "INSERT INTO registration (full_name, email, phone_number,"
+                + " preferred_role, experience_level, status, legal_consent, created_at, email_key, phone_key)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", (ps, i) -> {
+                    // Offset so registrations and join requests are mostly different people
+                    int contact = contact(i, random) + joinRequests;
+                    String email = email(contact, random);
+                    String phone = phone(contact, random);
+                    ps.setString(1, name(new Random(seed + contact)));
+                    ps.setString(2, email);
+                    ps.setString(3, phone);
+                    ps.setString(4, ROLES[random.nextInt(ROLES.length)]);
+                    ps.setString(5, EXPERIENCE[random.nextInt(EXPERIENCE.length)]);
+                    ps.setString(6, random.nextInt(10) < 6 ? "NEW" : "PROCESSED");
+                    ps.setBoolean(7, true);
+                    ps.setTimestamp(8, spread(i, registrations, Duration.ofDays(3 * 365), random));
+                    ps.setString(9, DedupeService.emailKey(email));
+                    ps.setString(10, DedupeService.phoneKey(phone));
+                });
+    }
+
+    private interface RowWriter {
+        void write(PreparedStatement ps, int row) throws SQLException;
+    }
+
+    // One JDBC batch and transaction per batchSize rows
+    private void insert(String table, int rows, String sql, RowWriter writer) {
+        long started = System.nanoTime();
+        for (int from = 0; from < rows; from += batchSize) {
+            int first = from;
+            int size = Math.min(batchSize, rows - from);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            writer.write(ps, first + i);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    }));
+        }
+        long millis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        System.out.println("Generated " + rows + " " + table + " row(s) in " + millis + "ms ("
+                + rows * 1000L / millis + "/s)");
+    }
+
+    /**
+     * First id to use for {@code table}: clear of existing rows and of the block of 50 Hibernate may still be
+     * handing out in this process.
+     */
+    private long nextFreeId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return maxId + 50;
+    }
+
+    // Same as DataInitializer: the pooled sequence has to start past the explicitly written ids
+    private void restartSequence(String table, long nextId) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + (nextId + 50));
+    }
+
+    private static int contact(int row, Random random) {
+        return row > 0 && random.nextDouble() < REPEAT_CONTACT ? random.nextInt(row) : row;
+    }
+
+    private static String name(Random random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    // The same person, sometimes typed with capitals or a +tag
+    private String email(int contact, Random random) {
+        Random person = new Random(seed + contact);
+        String local = FIRST_NAMES[person.nextInt(FIRST_NAMES.length)].toLowerCase() + "."
+                + LAST_NAMES[person.nextInt(LAST_NAMES.length)].toLowerCase() + contact;
+        String domain = DOMAINS[person.nextInt(DOMAINS.length)];
+        switch (random.nextInt(20)) {
+            case 0:
+                return local.toUpperCase() + "@" + domain;
+            case 1:
+                return local + "+cricket@" + domain;
+            default:
+                return local + "@" + domain;
+        }
+    }
+
+    // German mobile numbers in the formats people actually type
+    private static String phone(int contact, Random random) {
+        String number = String.format("%d %07d", 151 + contact % 29, contact % 10_000_000);
+        switch (random.nextInt(3)) {
+            case 0:
+                return "+49 " + number;
+            case 1:
+                return "0" + number;
+            default:
+                return "0049" + number.replace(" ", "");
+        }
+    }
+
+    private static String result(Random random) {
+        switch (random.nextInt(8)) {
+            case 0:
+                return "No result";
+            case 1:
+            case 2:
+            case 3:
+                return "Lost by " + (1 + random.nextInt(9)) + " wickets";
+            default:
+                return "Won by " + (1 + random.nextInt(120)) + " runs";
+        }
+    }
+
+    // Row timestamps rising with the row number over {@code span} before the anchor day, a little jittered
+    private static Timestamp spread(int row, int rows, Duration span, Random random) {
+        long minutes = span.toMinutes() / Math.max(1, rows) * row + random.nextInt(60);
+        return Timestamp.valueOf(ANCHOR.minus(span).plusMinutes(minutes));
+    }
+
+    // Phone-sized photo with enough detail to compress like a real one
+    private byte[] photo(Random random) throws IOException {
+        BufferedImage image = new BufferedImage(photoWidth, photoHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)), photoWidth, photoHeight,
+                new Color(random.nextInt(0xFFFFFF))));
+        g.fillRect(0, 0, photoWidth, photoHeight);
+        for (int i = 0; i < 600; i++) {
+            g.setColor(new Color(random.nextInt(0xFFFFFF)));
+            int size = photoWidth / 100 + random.nextInt(photoWidth / 12);
+            g.fillOval(random.nextInt(photoWidth), random.nextInt(photoHeight), size, size);
+        }
+        g.dispose();
+        int[] row = new int[photoWidth];
+        for (int y = 0; y < photoHeight; y++) {
+            image.getRGB(0, y, photoWidth, 1, row, 0, photoWidth);
+            for (int x = 0; x < photoWidth; x++) {
+                int grain = random.nextInt(25) - 12;
+                int r = clamp(((row[x] >> 16) & 0xFF) + grain);
+                int gr = clamp(((row[x] >> 8) & 0xFF) + grain);
+                int b = clamp((row[x] & 0xFF) + grain);
+                row[x] = (r << 16) | (gr << 8) | b;
+            }
+            image.setRGB(0, y, photoWidth, 1, row, 0, photoWidth);
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(0.9f);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
@@ -0,0 +1,258 @@
+package com.spartans.cricket.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One resumable gallery batch: the declared files, where their bytes are being assembled on disk and which byte
+ * ranges of each have arrived. Serialised as the status a client reads to resume after a dropped connection.
+ */
+public class UploadSession {
+
+    private final String id;
+    private final String category;
+    private final String subCategory;
+    private final String caption;
+    private final int chunkSize;
+    private final List<UploadFile> files;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime touchedAt = createdAt;
+    private volatile boolean finalizing;
+    private int writing; // guarded by this
+    private volatile String jobId;
+
+    UploadSession(String id, String category, String subCategory, String caption, int chunkSize,
+            List<UploadFile> files) {
+        this.id = id;
+        this.category = category;
+        this.subCategory = subCategory;
+        this.caption = caption;
+        this.chunkSize = chunkSize;
+        this.files = files;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getSubCategory() {
+        return subCategory;
+    }
+
+    public String getCaption() {
+        return caption;
+    }
+
+    // Largest chunk the server accepts in one PUT
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public List<UploadFile> getFiles() {
+        return files;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getTouchedAt() {
+        return touchedAt;
+    }
+
+    // The job processing the batch once it has been finalised
+    public String getJobId() {
+        return jobId;
+    }
+
+    public boolean isFinalizing() {
+        return finalizing;
+    }
+
+    void touch() {
+        touchedAt = LocalDateTime.now();
+    }
+
+    // Fails while a chunk is still being written, so the job never reads a file that is still changing
+    synchronized boolean claim() {
+        if (finalizing || writing > 0) {
+            return false;
+        }
+        finalizing = true;
+        return true;
+    }
+
+    // Brackets each chunk write; refused once the batch is being finalised
+    synchronized boolean startWrite() {
+        if (finalizing) {
+            return false;
+        }
+        writing++;
+        return true;
+    }
+
+    synchronized void endWrite() {
+        writing--;
+    }
+
+    synchronized boolean isWriting() {
+        return writing > 0;
+    }
+
+    void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    // Back to accepting chunks, after a failed or refused finalisation
+    synchronized void reopen() {
+        finalizing = false;
+    }
+
+    /**
+     * A file as the client declares it when starting the batch.
+     */
+    public static class FileSpec {
+        private String name;
+        private long size;
+        private String contentType;
+        private String sha256;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public void setSize(long size) {
+            this.size = size;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+        // Hex SHA-256 of the whole file; checked when the batch is finalised
+        public String getSha256() {
+            return sha256;
+        }
+
+        public void setSha256(String sha256) {
+            this.sha256 = sha256;
+        }
+    }
+
+    /**
+     * A file being assembled. Received ranges are kept merged, as start to end (exclusive), so resuming clients can
+     * be told exactly what is still missing whatever order or parallelism their chunks arrived in.
+     */
+    public static class UploadFile {
+        private final int index;
+        private final String name;
+        private final long size;
+        private final String contentType;
+        private final String sha256;
+        private final Path path;
+        private final TreeMap<Long, Long> received = new TreeMap<>();
+
+        UploadFile(int index, FileSpec spec, Path path) {
+            this.index = index;
+            this.name = spec.getName();
+            this.size = spec.getSize();
+            this.contentType = spec.getContentType();
+            this.sha256 = spec.getSha256();
+            this.path = path;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        @JsonIgnore
+        Path getPath() {
+            return path;
+        }
+
+        synchronized void mark(long start, long end) {
+            Map.Entry<Long, Long> before = received.floorEntry(start);
+            if (before != null && before.getValue() >= start) {
+                start = before.getKey();
+                end = Math.max(end, before.getValue());
+            }
+            Map.Entry<Long, Long> next = received.ceilingEntry(start);
+            while (next != null && next.getKey() <= end) {
+                end = Math.max(end, next.getValue());
+                received.remove(next.getKey());
+                next = received.ceilingEntry(start);
+            }
+            received.put(start, end);
+        }
+
+        synchronized void reset() {
+            received.clear();
+        }
+
+        public synchronized long getReceived() {
+            long total = 0;
+            for (Map.Entry<Long, Long> range : received.entrySet()) {
+                total += range.getValue() - range.getKey();
+            }
+            return total;
+        }
+
+        // Byte ranges still to send, as [start, end) pairs
+        public synchronized List<long[]> getMissing() {
+            List<long[]> missing = new ArrayList<>();
+            long at = 0;
+            for (Map.Entry<Long, Long> range : received.entrySet()) {
+                if (range.getKey() > at) {
+                    missing.add(new long[] { at, range.getKey() });
+                }
+                at = range.getValue();
+            }
+            if (at < size) {
+                missing.add(new long[] { at, size });
+            }
+            return missing;
+        }
+
+        public boolean isComplete() {
+            return getReceived() == size;
+        }
+    }
+}
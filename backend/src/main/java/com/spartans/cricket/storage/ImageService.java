@@ -0,0 +1,116 @@
+package com.spartans.cricket.storage;
+
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Upload and clean-up paths shared by the player and gallery controllers and the media job workers.
+ * <p>
+ * Content-addressed files are shared, so an upload and a delete of the same bytes can race: the delete sees no
+ * row and removes the file the upload is about to point a row at. An upload therefore pins its hash from
+ * {@link #store} until {@link #saved} (its row is committed) or {@link #discard} (it failed), and
+ * {@link #release} never deletes a pinned hash. Both sides take the same per-hash lock.
+ */
+@Service
+public class ImageService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private RenditionGenerator renditionGenerator;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    // Uploads stored but not yet saved, per hash; guarded by the hash's lock stripe
+    private final Map<String, Integer> pinned = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public ImageService() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Stores a staged upload under its hash and pins it until {@link #saved} or {@link #discard}. The staged file
+     * itself is left for the caller to remove.
+     */
+    public StoredImage store(Path staged, String contentType) throws IOException {
+        StoredImage stored;
+        try (InputStream in = Files.newInputStream(staged)) {
+            stored = imageStore.store(in, contentType);
+        }
+        synchronized (lockFor(stored.getHash())) {
+            pinned.merge(stored.getHash(), 1, Integer::sum);
+            // A release of the same bytes may have removed the shared file between the write and the pin
+            if (imageStore.load(stored.getHash()).isEmpty()) {
+                try (InputStream in = Files.newInputStream(staged)) {
+                    imageStore.store(in, contentType);
+                }
+            }
+        }
+        return stored;
+    }
+
+    public void render(StoredImage stored) {
+        renditionGenerator.generate(stored.getHash(), stored.getContentType());
+    }
+
+    /**
+     * Unpins an upload once the row pointing at it is committed.
+     */
+    public void saved(StoredImage stored) {
+        synchronized (lockFor(stored.getHash())) {
+            pinned.computeIfPresent(stored.getHash(), (hash, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Unpins an upload that will not be saved and deletes the file unless something else uses it.
+     */
+    public void discard(StoredImage stored) {
+        saved(stored);
+        release(stored.getHash());
+    }
+
+    /**
+     * Deletes the stored file once no player or gallery row points at it any more and no upload has it pinned.
+     * Content-addressed files can be shared, so this must run after the owning row is gone or repointed.
+     */
+    public void release(String hash) {
+        if (hash == null) {
+            return;
+        }
+        synchronized (lockFor(hash)) {
+            if (pinned.containsKey(hash) || playerRepository.existsByImageHash(hash)
+                    || galleryRepository.existsByImageHash(hash)) {
+                return;
+            }
+            try {
+                imageStore.delete(hash);
+            } catch (IOException e) {
+                System.err.println("Failed to delete image " + hash + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), locks.length)];
+    }
+}
@@ -0,0 +1,36 @@
+package com.spartans.cricket.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage for uploaded images. Images are keyed by the SHA-256 of their bytes,
+ * so identical uploads share one stored copy.
+ */
+public interface ImageStore {
+
+    /**
+     * Streams the content into the store and returns its hash. The content is never fully buffered in memory.
+     */
+    StoredImage store(InputStream content, String contentType) throws IOException;
+
+    /**
+     * Returns a streamable handle to the stored bytes, or empty when nothing is stored under the hash.
+     */
+    Optional<Resource> load(String hash);
+
+    /**
+     * Stores a derived rendition of an already stored image next to its original.
+     */
+    void storeRendition(String hash, Rendition rendition, InputStream content) throws IOException;
+
+    Optional<Resource> loadRendition(String hash, Rendition rendition);
+
+    /**
+     * Deletes the original and all of its renditions.
+     */
+    void delete(String hash) throws IOException;
+}
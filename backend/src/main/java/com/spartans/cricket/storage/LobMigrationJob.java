@@ -0,0 +1,76 @@
+package com.spartans.cricket.storage;
+
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+/**
+ * One-shot move of image blobs from the player and gallery tables into the {@link ImageStore}.
+ * Only rows that still carry a blob and no hash are touched, so re-running it is a no-op.
+ * Each row is migrated in its own transaction to keep at most one image in memory.
+ */
+@Component
+@ConditionalOnProperty(name = "spartans.images.migrate-lobs", havingValue = "true", matchIfMissing = true)
+public class LobMigrationJob implements ApplicationRunner {
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    @Autowired
+    private RenditionGenerator renditionGenerator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> playerIds = playerRepository.findIdsWithUnmigratedImage();
+        for (Long id : playerIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Player player = playerRepository.findById(id).orElseThrow();
+                player.setImageHash(store(player.getImageData(), player.getImageContentType()));
+                player.setImageData(null);
+            });
+        }
+
+        List<Long> galleryIds = galleryRepository.findIdsWithUnmigratedImage();
+        for (Long id : galleryIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                GalleryItem item = galleryRepository.findById(id).orElseThrow();
+                item.setImageHash(store(item.getImageData(), item.getImageContentType()));
+                item.setImageData(null);
+            });
+        }
+
+        if (!playerIds.isEmpty() || !galleryIds.isEmpty()) {
+            System.out.println("Moved " + playerIds.size() + " player and " + galleryIds.size()
+                    + " gallery images from the database to the image store");
+        }
+    }
+
+    private String store(byte[] data, String contentType) {
+        try {
+            String hash = imageStore.store(new ByteArrayInputStream(data), contentType).getHash();
+            renditionGenerator.generate(hash, contentType);
+            return hash;
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Failed to move image blob to the image store", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.spartans.cricket.storage;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Fixed-width renditions produced at upload time. The original upload is only served on explicit request.
+ */
+public enum Rendition {
+    THUMB(160),
+    CARD(480),
+    FULL(1280);
+
+    private final int width;
+
+    Rendition(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Smallest rendition at least {@code width} pixels wide, or the largest one when none is wide enough.
+     */
+    public static Rendition forWidth(int width) {
+        for (Rendition rendition : values()) {
+            if (rendition.width >= width) {
+                return rendition;
+            }
+        }
+        return FULL;
+    }
+
+    public static Optional<Rendition> fromKey(String key) {
+        for (Rendition rendition : values()) {
+            if (rendition.key().equalsIgnoreCase(key)) {
+                return Optional.of(rendition);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Renditions keep transparency for PNG/GIF sources and are JPEG otherwise.
+     */
+    public static String contentTypeFor(String originalContentType) {
+        return hasAlpha(originalContentType) ? "image/png" : "image/jpeg";
+    }
+
+    static boolean hasAlpha(String originalContentType) {
+        return "image/png".equalsIgnoreCase(originalContentType) || "image/gif".equalsIgnoreCase(originalContentType);
+    }
+}
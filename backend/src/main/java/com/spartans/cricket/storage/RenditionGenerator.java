@@ -0,0 +1,136 @@
+package com.spartans.cricket.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Produces the {@link Rendition}s of a stored image with ImageIO.
+ * <p>
+ * Large uploads are decoded with source subsampling to just over the widest rendition, so a 10MB phone photo is
+ * never fully expanded in memory, then stepped down by halves for a sharp result. Renditions wider than the original are skipped and serving
+ * falls back to the next larger one.
+ */
+@Component
+public class RenditionGenerator {
+
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final long MAX_PIXELS = 60_000_000L;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    public void generate(String hash, String contentType) {
+        Optional<Resource> original = imageStore.load(hash);
+        if (original.isEmpty()) {
+            return;
+        }
+        try {
+            BufferedImage source = decode(original.get());
+            if (source == null) {
+                return;
+            }
+            boolean alpha = Rendition.hasAlpha(contentType);
+            for (Rendition rendition : Rendition.values()) {
+                if (source.getWidth() <= rendition.getWidth()) {
+                    break;
+                }
+                byte[] encoded = encode(scale(source, rendition.getWidth(), alpha), alpha);
+                imageStore.storeRendition(hash, rendition, new ByteArrayInputStream(encoded));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Unreadable formats (e.g. WebP, CMYK JPEG) keep serving the original
+            System.err.println("Could not create renditions for image " + hash + ": " + e.getMessage());
+        }
+    }
+
+    private BufferedImage decode(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream(); ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long width = reader.getWidth(0);
+                long height = reader.getHeight(0);
+                if (width * height > MAX_PIXELS) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                // The largest step that still leaves the decoded image wider than the widest rendition, so a
+                // 4032px photo comes out 1344px wide (about 5MB of pixels rather than 48MB) and FULL is still made
+                int subsampling = (int) Math.max(1, (width - 1) / Rendition.FULL.getWidth());
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int targetWidth, boolean alpha) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+            BufferedImage next = new BufferedImage(width, height,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!alpha) {
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, width, height);
+                }
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width > targetWidth);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
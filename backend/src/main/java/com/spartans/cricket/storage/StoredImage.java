@@ -0,0 +1,26 @@
+package com.spartans.cricket.storage;
+
+public class StoredImage {
+
+    private final String hash;
+    private final String contentType;
+    private final long size;
+
+    public StoredImage(String hash, String contentType, long size) {
+        this.hash = hash;
+        this.contentType = contentType;
+        this.size = size;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
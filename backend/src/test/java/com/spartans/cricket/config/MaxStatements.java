@@ -0,0 +1,20 @@
+package com.spartans.cricket.config;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test if it runs more than {@code value} JDBC statements on the test thread, which covers MockMvc calls
+ * but not requests to a server on its own port. On a class it applies to every test without its own limit.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface MaxStatements {
+
+    int value();
+}
@@ -0,0 +1,45 @@
+package com.spartans.cricket.config;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Enforces {@link MaxStatements}: records the statements a test runs with {@link StatementTracker} and fails it,
+ * listing the SQL, when there are more than allowed. Only the test method itself counts, not its {@code @BeforeEach}
+ * setup.
+ */
+public class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context).isPresent()) {
+            StatementTracker.start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Optional<MaxStatements> budget = budget(context);
+        if (budget.isEmpty()) {
+            return;
+        }
+        StatementTracker.Recording sql = StatementTracker.stop();
+        if (sql.getStatements() > budget.get().value()) {
+            fail(context.getDisplayName() + " ran " + sql.getStatements() + " statements, allowed "
+                    + budget.get().value() + sql.describe());
+        }
+    }
+
+    private static Optional<MaxStatements> budget(ExtensionContext context) {
+        Optional<MaxStatements> onMethod = AnnotationSupport.findAnnotation(context.getTestMethod(),
+                MaxStatements.class);
+        return onMethod.isPresent() ? onMethod
+                : AnnotationSupport.findAnnotation(context.getTestClass(), MaxStatements.class);
+    }
+}
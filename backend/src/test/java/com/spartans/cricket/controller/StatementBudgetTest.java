@@ -0,0 +1,113 @@
+package com.spartans.cricket.controller;
+
+import com.spartans.cricket.config.MaxStatements;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * How many SQL statements the busiest endpoints may run. A failure lists the statements; raise a limit only when
+ * the extra queries are intended.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spartans.images.dir=target/statement-budget/images",
+        "spartans.images.migrate-lobs=false",
+        "spartans.jobs.staging-dir=target/statement-budget/staging",
+        "spartans.uploads.dir=target/statement-budget/chunked"
+})
+@AutoConfigureMockMvc
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private Long playerId;
+
+    @BeforeEach
+    void addPlayer() {
+        Player player = new Player();
+        player.setName("Budget Test");
+        player.setRole("Batsman");
+        playerId = playerRepository.save(player).getId();
+    }
+
+    @Test
+    @MaxStatements(1)
+    void playerList() throws Exception {
+        mvc.perform(get("/api/players")).andExpect(status().isOk());
+    }
+
+    // Usually a second-level cache hit
+    @Test
+    @MaxStatements(1)
+    void player() throws Exception {
+        mvc.perform(get("/api/players/" + playerId)).andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void matches() throws Exception {
+        mvc.perform(get("/api/matches")).andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(1)
+    void galleryPage() throws Exception {
+        mvc.perform(get("/api/gallery")).andExpect(status().isOk());
+    }
+
+    @Test
+    @MaxStatements(2)
+    void home() throws Exception {
+        mvc.perform(get("/api/home")).andExpect(status().isOk());
+    }
+
+    // The insert, plus a sequence call once every 50 ids
+    @Test
+    @MaxStatements(2)
+    void addPlayerWithoutImage() throws Exception {
+        mvc.perform(multipart("/api/players")
+                .param("name", "New Player")
+                .param("role", "Bowler")
+                .param("battingStyle", "Right-hand bat")
+                .param("bowlingStyle", "Right-arm fast"))
+                .andExpect(status().isOk());
+    }
+
+    // Load (unless cached), delete, and the performances the leaderboard drops with the player
+    @Test
+    @MaxStatements(3)
+    void deletePlayer() throws Exception {
+        mvc.perform(delete("/api/players/" + playerId)).andExpect(status().isOk());
+    }
+
+    // The duplicate filter answers for new contacts without a query
+    @Test
+    @MaxStatements(2)
+    void joinRequest() throws Exception {
+        mvc.perform(post("/api/join")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"New Member\",\"email\":\"budget-" + playerId + "@example.org\","
+                        + "\"phone\":\"+49 151 " + (1000000 + playerId) + "\",\"legalConsent\":true}"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,176 @@
+package com.spartans.cricket.perf;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator: each client repeatedly picks a scripted {@link Scenario} from a weighted mix and runs
+ * it step by step, with no think time, until the run is over. Every request is timed under the endpoint name the
+ * scenario gives it, so one template such as {@code GET /api/gallery/{id}/image?r=thumb} collects all its ids.
+ * <p>
+ * Clients draw scenarios and ids from their own seeded {@link Random}, so two runs issue the same request mix.
+ */
+class LoadGenerator {
+
+    /**
+     * One scripted visit, such as loading the homepage and its thumbnails.
+     */
+    interface Scenario {
+        void run(Session session, Random random) throws Exception;
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+
+    LoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Runs {@code mix} (scenario to weight) on {@code clients} threads for {@code duration}; the timings of any
+     * scenario still running at the end are kept.
+     */
+    PerfReport run(Map<Scenario, Integer> mix, int clients, Duration duration, long seed) throws Exception {
+        List<Scenario> wheel = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(scenario);
+            }
+        });
+        Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                Random random = new Random(seed + c);
+                running.add(pool.submit(() -> {
+                    Session session = new Session(recorders);
+                    while (System.nanoTime() < end) {
+                        wheel.get(random.nextInt(wheel.size())).run(session, random);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        PerfReport report = new PerfReport();
+        long requests = 0;
+        for (Map.Entry<String, Recorder> entry : new TreeMap<>(recorders).entrySet()) {
+            PerfReport.Endpoint endpoint = entry.getValue().summarise();
+            report.getEndpoints().put(entry.getKey(), endpoint);
+            requests += endpoint.getCount();
+        }
+        report.setRequests(requests);
+        report.setSeconds(Math.round(seconds * 10) / 10.0);
+        report.setThroughput(Math.round(requests / seconds * 10) / 10.0);
+        return report;
+    }
+
+    /**
+     * A client's view of the server; requests are recorded, never thrown, so a failing endpoint shows up as errors.
+     */
+    class Session {
+        private final Map<String, Recorder> recorders;
+
+        private Session(Map<String, Recorder> recorders) {
+            this.recorders = recorders;
+        }
+
+        String get(String name, String path) {
+            return send(name, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+        }
+
+        /**
+         * Sends the request and returns the body of a 2xx response, otherwise null.
+         */
+        String send(String name, HttpRequest.Builder request) {
+            request.timeout(Duration.ofSeconds(30));
+            long started = System.nanoTime();
+            int status;
+            String body = null;
+            try {
+                HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                body = response.body();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                status = -1;
+            } catch (Exception e) {
+                status = -1;
+            }
+            long micros = (System.nanoTime() - started) / 1000;
+            boolean ok = status / 100 == 2 || status == 304;
+            recorders.computeIfAbsent(name, key -> new Recorder()).add(micros, ok);
+            return ok ? body : null;
+        }
+
+        URI uri(String path) {
+            return URI.create(baseUrl + path);
+        }
+    }
+
+    private static class Recorder {
+        private long[] micros = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long latency, boolean ok) {
+            if (count == micros.length) {
+                micros = Arrays.copyOf(micros, count * 2);
+            }
+            micros[count++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized PerfReport.Endpoint summarise() {
+            long[] sorted = Arrays.copyOf(micros, count);
+            Arrays.sort(sorted);
+            PerfReport.Endpoint endpoint = new PerfReport.Endpoint();
+            endpoint.setCount(count);
+            endpoint.setErrors(errors);
+            endpoint.setP50Ms(percentile(sorted, 0.50));
+            endpoint.setP99Ms(percentile(sorted, 0.99));
+            endpoint.setMaxMs(count == 0 ? 0 : millis(sorted[count - 1]));
+            return endpoint;
+        }
+
+        // Nearest-rank
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return millis(sorted[Math.max(0, rank - 1)]);
+        }
+
+        private static double millis(long micros) {
+            return Math.round(micros / 10.0) / 100.0;
+        }
+    }
+}
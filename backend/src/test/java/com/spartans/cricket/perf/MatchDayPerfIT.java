@@ -0,0 +1,326 @@
+package com.spartans.cricket.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spartans.cricket.event.ContentReloadedEvent;
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.model.Player;
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.service.ImportService;
+import com.spartans.cricket.storage.ImageStore;
+import com.spartans.cricket.storage.RenditionGenerator;
+import com.spartans.cricket.storage.StoredImage;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Match-day performance check, run by {@code mvn -Pperf verify}.
+ * <p>
+ * Seeds {@code perf.players} players, {@code perf.fixtures} fixtures and {@code perf.gallery} gallery photos into an
+ * in-memory H2 database, then drives the running server with a scripted mix of homepage visits, gallery
+ * browsing and admin edits (see {@link #workload}). After a warm-up the measured run is written to
+ * {@code target/perf/report.json} and compared with {@code perf/baseline.json}: the build fails when throughput or
+ * any endpoint's p50/p99 is more than {@code perf.tolerance} worse, or when more than 1% of an endpoint's requests
+ * fail. A run that looks slower is measured again, up to {@code perf.attempts} times, and only fails if it stays
+ * slower. Baselines only compare on the machine and settings they were recorded with, so a mismatch fails too;
+ * {@code -Dperf.update-baseline=true} records the current run instead.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.main.banner-mode=off",
+        "logging.level.root=WARN",
+        "spartans.images.dir=${perf.work-dir:target/perf}/images",
+        "spartans.images.migrate-lobs=false",
+        "spartans.jobs.staging-dir=${perf.work-dir:target/perf}/staging",
+        "spartans.uploads.dir=${perf.work-dir:target/perf}/chunked"
+})
+class MatchDayPerfIT {
+
+    private static final long SEED = 20250504L;
+    private static final int PHOTOS = 6;
+    private static final double FLOOR_MS = 2.0;
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private GalleryRepository galleryRepository;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private RenditionGenerator renditionGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    private final ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final int players = Integer.getInteger("perf.players", 300);
+    private final int fixtures = Integer.getInteger("perf.fixtures", 1000);
+    private final int gallery = Integer.getInteger("perf.gallery", 2000);
+    private final int clients = Integer.getInteger("perf.clients", 8);
+    private final int warmupSeconds = Integer.getInteger("perf.warmup-seconds", 30);
+    private final int seconds = Integer.getInteger("perf.seconds", 30);
+    private final double tolerance = Double.parseDouble(System.getProperty("perf.tolerance", "0.25"));
+    private final int attempts = Integer.getInteger("perf.attempts", 2);
+
+    private long[] playerIds;
+    private long[] galleryIds;
+
+    @Test
+    void matchDayWorkloadKeepsUpWithBaseline() throws Exception {
+        seed();
+        LoadGenerator load = new LoadGenerator("http://localhost:" + port);
+        Map<LoadGenerator.Scenario, Integer> mix = workload();
+        load.run(mix, clients, Duration.ofSeconds(warmupSeconds), SEED);
+        PerfReport report = measure(load, mix);
+
+        List<String> problems = new ArrayList<>();
+        report.getEndpoints().forEach((name, endpoint) -> {
+            if (endpoint.getErrors() > endpoint.getCount() * MAX_ERROR_RATE) {
+                problems.add(name + " failed " + endpoint.getErrors() + " of " + endpoint.getCount() + " requests");
+            }
+        });
+        assertTrue(problems.isEmpty(), "Requests failed: " + problems);
+
+        Path baselineFile = Paths.get(System.getProperty("perf.baseline", "perf/baseline.json"));
+        if (Boolean.getBoolean("perf.update-baseline") || !Files.exists(baselineFile)) {
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            json.writeValue(baselineFile.toFile(), report);
+            System.out.println("Recorded performance baseline " + baselineFile);
+            return;
+        }
+        PerfReport baseline = json.readValue(baselineFile.toFile(), PerfReport.class);
+        if (!baseline.getSettings().equals(report.getSettings())) {
+            fail("Baseline was recorded with " + baseline.getSettings() + " but this run used " + report.getSettings()
+                    + "; run with the same settings or re-record it with -Dperf.update-baseline=true");
+        }
+        List<String> regressions = report.regressionsAgainst(baseline, tolerance, FLOOR_MS);
+        for (int attempt = 1; attempt < attempts && !regressions.isEmpty(); attempt++) {
+            System.out.println("Slower than the baseline, measuring again to rule out noise: " + regressions);
+            regressions = measure(load, mix).regressionsAgainst(baseline, tolerance, FLOOR_MS);
+        }
+        assertTrue(regressions.isEmpty(), "Slower than " + baselineFile + " by more than "
+                + Math.round(tolerance * 100) + "%: " + regressions);
+    }
+
+    private PerfReport measure(LoadGenerator load, Map<LoadGenerator.Scenario, Integer> mix) throws Exception {
+        PerfReport report = load.run(mix, clients, Duration.ofSeconds(seconds), SEED);
+        report.setSettings(settings());
+        Path reportFile = Paths.get(System.getProperty("perf.report", "target/perf/report.json"));
+        Files.createDirectories(reportFile.getParent());
+        json.writeValue(reportFile.toFile(), report);
+        print(report);
+        return report;
+    }
+
+    /**
+     * Homepage visits dominate on match days, followed by people browsing the photos; a few admins update
+     * fixtures at the same time, which also invalidates everything the public pages cache.
+     */
+    private Map<LoadGenerator.Scenario, Integer> workload() {
+        Map<LoadGenerator.Scenario, Integer> mix = new LinkedHashMap<>();
+        mix.put(this::homepage, 60);
+        mix.put(this::galleryBrowsing, 30);
+        mix.put(this::adminEdits, 10);
+        return mix;
+    }
+
+    private void homepage(LoadGenerator.Session session, Random random) {
+        session.get("GET /api/home", "/api/home");
+        session.get("GET /api/matches", "/api/matches?limit=10");
+        session.get("GET /api/players", "/api/players");
+        for (int i = 0; i < 4; i++) {
+            session.get("GET /api/players/{id}/image?r=thumb",
+                    "/api/players/" + pick(playerIds, random) + "/image?r=thumb");
+        }
+    }
+
+    private void galleryBrowsing(LoadGenerator.Session session, Random random) throws IOException {
+        String first = session.get("GET /api/gallery", "/api/gallery?limit=24");
+        String next = first != null ? json.readTree(first).path("next").asText(null) : null;
+        if (next != null) {
+            session.get("GET /api/gallery?cursor", "/api/gallery?limit=24&cursor=" + next);
+        }
+        for (int i = 0; i < 8; i++) {
+            session.get("GET /api/gallery/{id}/image?r=thumb",
+                    "/api/gallery/" + pick(galleryIds, random) + "/image?r=thumb");
+        }
+        session.get("GET /api/gallery/{id}/image?r=full", "/api/gallery/" + pick(galleryIds, random) + "/image?r=full");
+    }
+
+    private void adminEdits(LoadGenerator.Session session, Random random) throws IOException {
+        session.send("POST /api/auth/login", post(session, "/api/auth/login",
+                "{\"username\":\"admin\",\"password\":\"admin123\"}"));
+        String created = session.send("POST /api/matches", post(session, "/api/matches", fixture(random, "Upcoming")));
+        if (created == null) {
+            return;
+        }
+        long id = json.readTree(created).path("id").asLong();
+        session.send("PUT /api/matches/{id}", HttpRequest.newBuilder(session.uri("/api/matches/" + id))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(fixture(random, "Completed"))));
+        session.get("GET /api/matches", "/api/matches?limit=10");
+        session.send("DELETE /api/matches/{id}", HttpRequest.newBuilder(session.uri("/api/matches/" + id)).DELETE());
+    }
+
+    private static HttpRequest.Builder post(LoadGenerator.Session session, String path, String body) {
+        return HttpRequest.newBuilder(session.uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static String fixture(Random random, String status) {
+        return "{\"opponent\":\"Load Test XI " + random.nextInt(100) + "\",\"venue\":\"Frankfurt\","
+                + "\"matchDate\":\"2026-06-13T14:00:00\",\"status\":\"" + status + "\",\"result\":\"\"}";
+    }
+
+    private static long pick(long[] ids, Random random) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("players", players);
+        settings.put("fixtures", fixtures);
+        settings.put("gallery", gallery);
+        settings.put("clients", clients);
+        settings.put("seconds", seconds);
+        settings.put("cpus", Runtime.getRuntime().availableProcessors());
+        return settings;
+    }
+
+    private void seed() throws IOException {
+        Random random = new Random(SEED);
+        List<StoredImage> photos = new ArrayList<>();
+        for (int i = 0; i < PHOTOS; i++) {
+            StoredImage stored = imageStore.store(new ByteArrayInputStream(photo(random)), "image/jpeg");
+            renditionGenerator.generate(stored.getHash(), stored.getContentType());
+            photos.add(stored);
+        }
+
+        String[] roles = { "Batsman", "Bowler", "All-rounder", "Wicket-keeper" };
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < players; i++) {
+            rows.append("{\"name\":\"Perf Player ").append(i)
+                    .append("\",\"role\":\"").append(roles[i % roles.length])
+                    .append("\",\"battingStyle\":\"Right-hand bat\",\"bowlingStyle\":\"Right-arm medium\"}\n");
+        }
+        importNdjson(ImportService.PLAYERS, rows);
+
+        rows.setLength(0);
+        LocalDate first = LocalDate.of(2015, 4, 1);
+        for (int i = 0; i < fixtures; i++) {
+            boolean played = i < fixtures * 9 / 10;
+            rows.append("{\"opponent\":\"Opponent ").append(i % 40)
+                    .append("\",\"venue\":\"Ground ").append(i % 7)
+                    .append("\",\"matchDate\":\"").append(first.plusDays(i * 3L))
+                    .append("\",\"status\":\"").append(played ? "Completed" : "Upcoming")
+                    .append("\",\"result\":\"").append(played ? (i % 3 == 0 ? "Lost" : "Won") : "").append("\"}\n");
+        }
+        importNdjson(ImportService.FIXTURES, rows);
+
+        List<GalleryItem> items = new ArrayList<>(gallery);
+        for (int i = 0; i < gallery; i++) {
+            StoredImage photo = photos.get(i % PHOTOS);
+            GalleryItem item = new GalleryItem();
+            item.setCategory("Season " + (2015 + i % 10));
+            item.setSubCategory("Match " + (i % 25));
+            item.setCaption("Photo " + i);
+            item.setImageHash(photo.getHash());
+            item.setImageContentType(photo.getContentType());
+            items.add(item);
+        }
+        galleryRepository.saveAll(items);
+        events.publishEvent(new ContentReloadedEvent(GalleryItem.class));
+
+        for (int i = 0; i < PHOTOS; i++) {
+            jdbcTemplate.update("UPDATE player SET image_hash = ?, image_content_type = ? WHERE MOD(id, ?) = ?",
+                    photos.get(i).getHash(), photos.get(i).getContentType(), PHOTOS, i);
+        }
+        // Player rows were changed behind Hibernate's back
+        entityManagerFactory.getCache().evictAll();
+        events.publishEvent(new ContentReloadedEvent(Player.class));
+
+        playerIds = ids("SELECT id FROM player WHERE image_hash IS NOT NULL");
+        galleryIds = ids("SELECT id FROM gallery_item");
+    }
+
+    private void importNdjson(String kind, StringBuilder rows) throws IOException {
+        importService.importRows(kind, "ndjson",
+                new ByteArrayInputStream(rows.toString().getBytes(StandardCharsets.UTF_8)), false);
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // A phone-sized photo, big enough that every rendition gets generated
+    private static byte[] photo(Random random) throws IOException {
+        BufferedImage image = new BufferedImage(2400, 1600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)), 2400, 1600,
+                new Color(random.nextInt(0xFFFFFF))));
+        g.fillRect(0, 0, 2400, 1600);
+        for (int i = 0; i < 400; i++) {
+            g.setColor(new Color(random.nextInt(0xFFFFFF)));
+            g.fillOval(random.nextInt(2400), random.nextInt(1600), 20 + random.nextInt(120), 20 + random.nextInt(120));
+        }
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static void print(PerfReport report) {
+        System.out.printf("%nMatch-day workload: %d requests in %.1fs, %.1f req/s%n", report.getRequests(),
+                report.getSeconds(), report.getThroughput());
+        System.out.printf("%-42s %8s %7s %9s %9s %9s%n", "endpoint", "count", "errors", "p50 ms", "p99 ms", "max ms");
+        report.getEndpoints().forEach((name, e) -> System.out.printf("%-42s %8d %7d %9.2f %9.2f %9.2f%n", name,
+                e.getCount(), e.getErrors(), e.getP50Ms(), e.getP99Ms(), e.getMaxMs()));
+    }
+}
@@ -0,0 +1,147 @@
+package com.spartans.cricket.perf;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of one measured workload run, and the format of {@code perf/baseline.json}: the settings it ran with,
+ * overall throughput and latency percentiles per endpoint.
+ */
+public class PerfReport {
+
+    // Percentiles from fewer requests than this are noise; p99 of under a hundred is just the slowest one
+    static final int MIN_SAMPLES_P50 = 20;
+    static final int MIN_SAMPLES_P99 = 100;
+
+    private Map<String, Object> settings = new LinkedHashMap<>();
+    private long requests;
+    private double seconds;
+    private double throughput;
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    public Map<String, Object> getSettings() {
+        return settings;
+    }
+
+    public void setSettings(Map<String, Object> settings) {
+        this.settings = settings;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public double getSeconds() {
+        return seconds;
+    }
+
+    public void setSeconds(double seconds) {
+        this.seconds = seconds;
+    }
+
+    // Requests per second over the measured window, all endpoints together
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public void setThroughput(double throughput) {
+        this.throughput = throughput;
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * What got worse than {@code baseline} by more than {@code tolerance} (0.25 = 25%). Latencies also have to grow
+     * by at least {@code floorMs}, so sub-millisecond endpoints do not fail the build on scheduling noise, and are
+     * only compared once both runs made enough requests to the endpoint.
+     */
+    public List<String> regressionsAgainst(PerfReport baseline, double tolerance, double floorMs) {
+        List<String> regressions = new ArrayList<>();
+        if (throughput < baseline.getThroughput() * (1 - tolerance)) {
+            regressions.add(String.format("throughput %.1f req/s, baseline %.1f", throughput, baseline.getThroughput()));
+        }
+        baseline.getEndpoints().forEach((name, before) -> {
+            Endpoint now = endpoints.get(name);
+            if (now == null) {
+                regressions.add(name + " was not exercised");
+                return;
+            }
+            long samples = Math.min(now.getCount(), before.getCount());
+            if (samples >= MIN_SAMPLES_P50 && slower(now.getP50Ms(), before.getP50Ms(), tolerance, floorMs)) {
+                regressions.add(String.format("%s p50 %.2f ms, baseline %.2f", name, now.getP50Ms(), before.getP50Ms()));
+            }
+            if (samples >= MIN_SAMPLES_P99 && slower(now.getP99Ms(), before.getP99Ms(), tolerance, floorMs)) {
+                regressions.add(String.format("%s p99 %.2f ms, baseline %.2f", name, now.getP99Ms(), before.getP99Ms()));
+            }
+        });
+        return regressions;
+    }
+
+    private static boolean slower(double now, double before, double tolerance, double floorMs) {
+        return now > before * (1 + tolerance) && now - before > floorMs;
+    }
+
+    /**
+     * Latency and outcome counts for one endpoint, named by method and path template.
+     */
+    public static class Endpoint {
+        private long count;
+        private long errors;
+        private double p50Ms;
+        private double p99Ms;
+        private double maxMs;
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        // Anything but 2xx/304, including 503s from a bulkhead and connection failures
+        public long getErrors() {
+            return errors;
+        }
+
+        public void setErrors(long errors) {
+            this.errors = errors;
+        }
+
+        public double getP50Ms() {
+            return p50Ms;
+        }
+
+        public void setP50Ms(double p50Ms) {
+            this.p50Ms = p50Ms;
+        }
+
+        public double getP99Ms() {
+            return p99Ms;
+        }
+
+        public void setP99Ms(double p99Ms) {
+            this.p99Ms = p99Ms;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public void setMaxMs(double maxMs) {
+            this.maxMs = maxMs;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.spartans.cricket.benchmarks;
+
+import com.spartans.cricket.SpartansCricketApplication;
+import com.spartans.cricket.model.GalleryItem;
+import com.spartans.cricket.model.Registration;
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.RegistrationRepository;
+import com.spartans.cricket.service.DedupeService;
+import com.spartans.cricket.service.ImportService;
+import com.spartans.cricket.storage.ImageStore;
+import com.spartans.cricket.storage.RenditionGenerator;
+import com.spartans.cricket.storage.StoredImage;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The real application context on an in-memory H2 database, seeded with {@code rows} players, gallery items and
+ * registrations. With {@code blobs} every player and gallery row also carries a legacy image LOB, the way rows
+ * looked before images moved to the file store, so the cost of dragging those columns along can be compared.
+ */
+final class Backend implements AutoCloseable {
+
+    static final int BLOB_BYTES = 256 * 1024;
+
+    private final ConfigurableApplicationContext context;
+    private final Path dir;
+    private StoredImage image;
+
+    private Backend(ConfigurableApplicationContext context, Path dir) {
+        this.context = context;
+        this.dir = dir;
+    }
+
+    static Backend start(int rows, boolean blobs) throws IOException {
+        Path dir = Files.createTempDirectory("spartans-bench-");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpartansCricketApplication.class)
+                .web(WebApplicationType.NONE)
+                // As command-line arguments, so they win over application.properties
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spartans.images.dir=" + dir.resolve("images"),
+                        "--spartans.images.migrate-lobs=false",
+                        "--spartans.jobs.staging-dir=" + dir.resolve("staging"),
+                        "--spartans.uploads.dir=" + dir.resolve("chunked"));
+        Backend backend = new Backend(context, dir);
+        try {
+            backend.seed(rows, blobs);
+            return backend;
+        } catch (IOException | RuntimeException e) {
+            backend.close();
+            throw e;
+        }
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    StoredImage getImage() {
+        return image;
+    }
+
+    private void seed(int rows, boolean blobs) throws IOException {
+        StoredImage stored = bean(ImageStore.class).store(new ByteArrayInputStream(photo()), "image/jpeg");
+        bean(RenditionGenerator.class).generate(stored.getHash(), stored.getContentType());
+
+        StringBuilder players = new StringBuilder();
+        String[] roles = { "Batsman", "Bowler", "All-rounder", "Wicket-keeper" };
+        for (int i = 0; i < rows; i++) {
+            players.append("{\"name\":\"Bench Player ").append(i)
+                    .append("\",\"role\":\"").append(roles[i % roles.length])
+                    .append("\",\"battingStyle\":\"Right-hand bat\",\"bowlingStyle\":\"Right-arm medium\"}\n");
+        }
+        bean(ImportService.class).importRows(ImportService.PLAYERS, "ndjson",
+                new ByteArrayInputStream(players.toString().getBytes(StandardCharsets.UTF_8)), false);
+
+        List<GalleryItem> gallery = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            GalleryItem item = new GalleryItem();
+            item.setCategory("Season 2025");
+            item.setSubCategory("Match " + (i % 10));
+            item.setCaption("Photo " + i);
+            item.setImageHash(stored.getHash());
+            item.setImageContentType(stored.getContentType());
+            gallery.add(item);
+        }
+        bean(GalleryRepository.class).saveAll(gallery);
+
+        DedupeService dedupe = bean(DedupeService.class);
+        List<Registration> registrations = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Registration registration = new Registration();
+            registration.setFullName("Applicant " + i);
+            registration.setEmail(existingEmail(i));
+            registration.setPhoneNumber(String.format("+49 151 %08d", i));
+            registration.setPreferredRole("Batsman");
+            registration.setExperienceLevel("Club");
+            registration.setLegalConsent(true);
+            dedupe.applyKeys(registration);
+            registrations.add(registration);
+        }
+        bean(RegistrationRepository.class).saveAll(registrations);
+        dedupe.warmUp();
+
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        jdbc.update("UPDATE player SET image_hash = ?, image_content_type = ?", stored.getHash(),
+                stored.getContentType());
+        if (blobs) {
+            byte[] blob = new byte[BLOB_BYTES];
+            new java.util.Random(42).nextBytes(blob);
+            jdbc.update("UPDATE player SET image_data = ?", (Object) blob);
+            jdbc.update("UPDATE gallery_item SET image_data = ?", (Object) blob);
+        }
+        // Rows were changed behind Hibernate's back
+        bean(EntityManagerFactory.class).getCache().evictAll();
+        image = stored;
+    }
+
+    static String existingEmail(int i) {
+        return "applicant" + i + "@example.org";
+    }
+
+    // A phone-sized photo, big enough that every rendition gets generated
+    private static byte[] photo() throws IOException {
+        BufferedImage image = new BufferedImage(2400, 1600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(30, 90, 160), 2400, 1600, new Color(230, 180, 40)));
+        g.fillRect(0, 0, 2400, 1600);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dir);
+    }
+}
@@ -0,0 +1,62 @@
+package com.spartans.cricket.benchmarks;
+
+import com.spartans.cricket.model.Registration;
+import com.spartans.cricket.service.DedupeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The duplicate check {@code RegistrationController.register} runs before saving: contact key normalisation and
+ * the count of earlier registrations and join requests. New contacts are ruled out by the Bloom filter without a
+ * query; known ones go to the indexed key columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DuplicateCheckBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int rows;
+
+    @Param({ "new", "existing" })
+    private String contact;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Backend backend;
+    private DedupeService dedupeService;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        backend = Backend.start(rows, false);
+        dedupeService = backend.bean(DedupeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        backend.close();
+    }
+
+    @Benchmark
+    public long check() {
+        Registration registration = new Registration();
+        if ("existing".equals(contact)) {
+            int i = ThreadLocalRandom.current().nextInt(rows);
+            // Differently written, the way people re-enter their details
+            registration.setEmail(Backend.existingEmail(i).toUpperCase());
+            registration.setPhoneNumber(String.format("0151 %08d", i));
+        } else {
+            long n = sequence.incrementAndGet();
+            registration.setEmail("newcomer" + n + "@example.org");
+            registration.setPhoneNumber(String.format("+49 160 %08d", n));
+        }
+        dedupeService.applyKeys(registration);
+        return dedupeService.countDuplicates(registration.getEmailKey(), registration.getPhoneKey());
+    }
+}
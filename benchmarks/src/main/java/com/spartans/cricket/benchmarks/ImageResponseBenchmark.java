@@ -0,0 +1,63 @@
+package com.spartans.cricket.benchmarks;
+
+import com.spartans.cricket.controller.PlayerController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PlayerController.getPlayerImage}: looking up the image reference and assembling the response (headers,
+ * rendition choice, file handle), and the same plus streaming the body, per rendition. {@code full} is what a
+ * request without {@code ?r=} gets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ImageResponseBenchmark {
+
+    @Param({ "thumb", "full", "original" })
+    private String rendition;
+
+    @Param({ "100" })
+    private int rows;
+
+    private Backend backend;
+    private PlayerController playerController;
+    private Long playerId;
+    private String version;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        backend = Backend.start(rows, false);
+        playerController = backend.bean(PlayerController.class);
+        playerId = backend.bean(JdbcTemplate.class).queryForObject("SELECT MAX(id) FROM player", Long.class);
+        version = backend.getImage().getHash();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        backend.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<Resource> assemble() {
+        return playerController.getPlayerImage(playerId, version, null, rendition);
+    }
+
+    @Benchmark
+    public long assembleAndStream() throws IOException {
+        ResponseEntity<Resource> response = playerController.getPlayerImage(playerId, version, null, rendition);
+        try (InputStream in = response.getBody().getInputStream()) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
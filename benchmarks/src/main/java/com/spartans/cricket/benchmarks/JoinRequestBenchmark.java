@@ -0,0 +1,73 @@
+package com.spartans.cricket.benchmarks;
+
+import com.spartans.cricket.controller.JoinRequestController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code JoinRequestController.submitRequest} end to end without HTTP: mapping the DTO onto the entity, the
+ * duplicate check and the insert for a new applicant, the 409 path for a known one, and the honeypot short cut.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JoinRequestBenchmark {
+
+    @Param({ "1000" })
+    private int rows;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Backend backend;
+    private JoinRequestController joinRequestController;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        backend = Backend.start(rows, false);
+        joinRequestController = backend.bean(JoinRequestController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        backend.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> submitNew() {
+        long n = sequence.incrementAndGet();
+        return joinRequestController.submitRequest(request("join" + n + "@example.org",
+                String.format("+49 170 %08d", n)), false);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> submitDuplicate() {
+        int i = ThreadLocalRandom.current().nextInt(rows);
+        return joinRequestController.submitRequest(request(Backend.existingEmail(i), null), false);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> submitBot() {
+        JoinRequestController.JoinRequestDTO request = request("bot@example.org", null);
+        request.setWebsite("http://spam.example");
+        return joinRequestController.submitRequest(request, false);
+    }
+
+    private static JoinRequestController.JoinRequestDTO request(String email, String phone) {
+        JoinRequestController.JoinRequestDTO request = new JoinRequestController.JoinRequestDTO();
+        request.setName("Bench Applicant");
+        request.setEmail(email);
+        request.setPhone(phone);
+        request.setRole("All-rounder");
+        request.setExperience("Club");
+        request.setMessage("Keen to play on Sundays");
+        request.setLegalConsent(true);
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+package com.spartans.cricket.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spartans.cricket.controller.CursorPage;
+import com.spartans.cricket.controller.GalleryController;
+import com.spartans.cricket.controller.PlayerController;
+import com.spartans.cricket.repository.GalleryRepository;
+import com.spartans.cricket.repository.PlayerRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player and gallery list responses as the controllers build them (summary projections, no LOB columns) against
+ * serialising full entities, which is what the endpoints used to do. With {@code blobs} the rows also hold legacy
+ * image LOBs, which only the entity variants read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ListSerializationBenchmark {
+
+    @Param({ "100", "1000" })
+    private int rows;
+
+    @Param({ "false", "true" })
+    private boolean blobs;
+
+    private Backend backend;
+    private ObjectMapper objectMapper;
+    private PlayerController playerController;
+    private GalleryController galleryController;
+    private PlayerRepository playerRepository;
+    private GalleryRepository galleryRepository;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        backend = Backend.start(rows, blobs);
+        objectMapper = backend.bean(ObjectMapper.class);
+        playerController = backend.bean(PlayerController.class);
+        galleryController = backend.bean(GalleryController.class);
+        playerRepository = backend.bean(PlayerRepository.class);
+        galleryRepository = backend.bean(GalleryRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        backend.close();
+    }
+
+    @Benchmark
+    public byte[] playerListResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(playerController.getAllPlayers(null));
+    }
+
+    @Benchmark
+    public byte[] playerEntities() throws IOException {
+        return objectMapper.writeValueAsBytes(playerRepository.findAll());
+    }
+
+    @Benchmark
+    public byte[] galleryPageResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(
+                galleryController.getAllGalleryItems(null, null, null, CursorPage.MAX_LIMIT, null));
+    }
+
+    @Benchmark
+    public byte[] galleryEntities() throws IOException {
+        return objectMapper.writeValueAsBytes(galleryRepository
+                .findAll(PageRequest.of(0, CursorPage.MAX_LIMIT, Sort.by(Sort.Direction.DESC, "id")))
+                .getContent());
+    }
+}
@@ -1,6 +1,9 @@
 import { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { API_URL } from './config';
+import { API_URL, imageSrc } from './config';
+import { fetchPage } from './pagination';
+import { completeUpload } from './jobs';
+import { uploadGalleryBatch } from './uploads';
 
 function AdminDashboard() {
     const [activeTab, setActiveTab] = useState('matches'); // 'matches' or 'players'
@@ -15,7 +18,6 @@ function AdminDashboard() {
     // Modal State
     const [showMatchModal, setShowMatchModal] = useState(false);
     const [showPlayerModal, setShowPlayerModal] = useState(false);
-    const [showStatsModal, setShowStatsModal] = useState(false);
 
     const [stats, setStats] = useState({
         matchesWon: 0,
@@ -23,12 +25,6 @@ function AdminDashboard() {
         championships: 0
     });
 
-    const [statsForm, setStatsForm] = useState({
-        matchesWon: 0,
-        activePlayers: 0,
-        championships: 0
-    });
-
     const [achievements, setAchievements] = useState([]);
     const [showAchievementModal, setShowAchievementModal] = useState(false);
 
@@ -40,7 +36,8 @@ function AdminDashboard() {
         subCategory: '',
         caption: ''
     });
-    const [selectedFile, setSelectedFile] = useState(null);
+    const [selectedFiles, setSelectedFiles] = useState([]);
+    const [galleryUploadStatus, setGalleryUploadStatus] = useState('');
     const [newCategory, setNewCategory] = useState('');
     const [isNewCategory, setIsNewCategory] = useState(false);
     const [existingCategories, setExistingCategories] = useState([]);
@@ -49,6 +46,9 @@ function AdminDashboard() {
     const [joinRequests, setJoinRequests] = useState([]);
     const [joinRequestFilter, setJoinRequestFilter] = useState('NEW');
 
+    // Next-page cursors for the paginated lists (null once the last page is loaded)
+    const [cursors, setCursors] = useState({ matches: null, gallery: null, joinRequests: null, registrations: null });
+
     const [achievementForm, setAchievementForm] = useState({
         title: '',
         achievementYear: '',
@@ -98,9 +98,8 @@ function AdminDashboard() {
     const fetchData = async () => {
         try {
             setLoading(true);
-            const matchesRes = await fetch(API_URL + '/api/matches');
-            const matchesData = await matchesRes.json();
-            if (Array.isArray(matchesData)) setMatches(matchesData.sort((a, b) => new Date(b.matchDate) - new Date(a.matchDate)));
+            const matchesPage = await fetchPage('/api/matches');
+            setMatches(sortByMatchDate(matchesPage.items));
 
             const playersRes = await fetch(API_URL + '/api/players');
             const playersData = await playersRes.json();
@@ -123,26 +122,23 @@ function AdminDashboard() {
             if (Array.isArray(achievementsData)) setAchievements(achievementsData);
 
             // Fetch Gallery Items
-            const galleryRes = await fetch(API_URL + '/api/gallery');
-            const galleryData = await galleryRes.json();
-            if (Array.isArray(galleryData)) {
-                setGalleryItems(galleryData);
-                const categories = [...new Set(galleryData.map(item => item.category))];
-                setExistingCategories(categories);
-            }
+            const galleryPage = await fetchPage('/api/gallery');
+            setGalleryItems(galleryPage.items);
+            setExistingCategories([...new Set(galleryPage.items.map(item => item.category))]);
 
             // Fetch Join Requests
-            const joinRes = await fetch(API_URL + '/api/join');
-            if (joinRes.ok) {
-                const joinData = await joinRes.json();
-                if (Array.isArray(joinData)) setJoinRequests(joinData);
-            }
+            const joinPage = await fetchPage('/api/join');
+            setJoinRequests(joinPage.items);
 
-            const regRes = await fetch(API_URL + '/api/register');
-            if (regRes.ok) {
-                const regData = await regRes.json();
-                setRegistrations(regData);
-            }
+            const regPage = await fetchPage('/api/register');
+            setRegistrations(regPage.items);
+
+            setCursors({
+                matches: matchesPage.next,
+                gallery: galleryPage.next,
+                joinRequests: joinPage.next,
+                registrations: regPage.next
+            });
 
         } catch (error) {
             console.error('Error fetching data:', error);
@@ -151,26 +147,41 @@ function AdminDashboard() {
         }
     };
 
-    const handleStatsSubmit = async (e) => {
-        e.preventDefault();
-        setLoading(true); // Start loading
-        console.log("Submitting stats:", statsForm); // DEBUG
+    const sortByMatchDate = (list) => list.sort((a, b) => new Date(b.matchDate) - new Date(a.matchDate));
+
+    const loadMore = async (list) => {
+        const paths = { matches: '/api/matches', gallery: '/api/gallery', registrations: '/api/register' };
         try {
-            const res = await fetch(API_URL + '/api/stats', {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify(statsForm)
-            });
+            const page = await fetchPage(paths[list], cursors[list]);
+            if (list === 'matches') {
+                setMatches(prev => sortByMatchDate(prev.concat(page.items)));
+            } else if (list === 'gallery') {
+                setGalleryItems(prev => prev.concat(page.items));
+                setExistingCategories(prev => [...new Set(prev.concat(page.items.map(item => item.category)))]);
+            } else {
+                setRegistrations(prev => prev.concat(page.items));
+            }
+            setCursors(prev => ({ ...prev, [list]: page.next }));
+        } catch (error) {
+            console.error('Error loading more:', error);
+        }
+    };
+
+    // The Join Requests tab lists registrations
+    const activeList = activeTab === 'join' ? 'registrations' : activeTab;
+
+    // Stats are derived from fixtures, players and achievements; this only forces a full recount
+    const handleStatsRebuild = async () => {
+        try {
+            const res = await fetch(API_URL + '/api/stats/rebuild', { method: 'POST' });
             if (res.ok) {
-                setShowStatsModal(false);
-                alert('Stats updated successfully!');
                 fetchData();
             } else {
-                alert('Failed to update stats');
+                alert('Failed to recount stats');
             }
         } catch (error) {
             console.error(error);
-            alert('Error updating stats');
+            alert('Error recounting stats');
         }
     };
 
@@ -239,9 +250,6 @@ function AdminDashboard() {
         formData.append('role', playerForm.role);
         formData.append('battingStyle', playerForm.battingStyle);
         formData.append('bowlingStyle', playerForm.bowlingStyle);
-        formData.append('matches', playerForm.matches);
-        formData.append('runs', playerForm.runs);
-        formData.append('wickets', playerForm.wickets);
 
         if (selectedPlayerFile) {
             formData.append('image', selectedPlayerFile);
@@ -263,6 +271,7 @@ function AdminDashboard() {
             });
 
             if (res.ok) {
+                await completeUpload(res);
                 setShowPlayerModal(false);
                 setPlayerForm({ name: '', role: 'Batsman', battingStyle: 'Right-hand bat', bowlingStyle: 'Right-arm medium', matches: 0, runs: 0, wickets: 0, imageUrl: '' });
                 setSelectedPlayerFile(null);
@@ -315,38 +324,30 @@ function AdminDashboard() {
             alert("Please select or enter a category");
             return;
         }
-        if (!selectedFile) {
-            alert("Please select an image file");
+        if (selectedFiles.length === 0) {
+            alert("Please select at least one image");
             return;
         }
 
-        const formData = new FormData();
-        formData.append('image', selectedFile);
-        formData.append('caption', galleryForm.caption);
-        formData.append('category', categoryToUse);
-        if (galleryForm.subCategory) {
-            formData.append('subCategory', galleryForm.subCategory);
-        }
-
         try {
-            const res = await fetch(API_URL + '/api/gallery', {
-                method: 'POST',
-                // Content-Type header is auto-set by browser for FormData
-                body: formData
-            });
-            if (res.ok) {
-                setShowGalleryModal(false);
-                setGalleryForm({ category: '', subCategory: '', caption: '' });
-                setSelectedFile(null);
-                setNewCategory('');
-                setIsNewCategory(false);
-                fetchData();
-            } else {
-                alert('Failed to add gallery item');
-            }
+            // Chunked and resumable, so a whole tournament's photos survive a patchy connection
+            await uploadGalleryBatch({
+                files: selectedFiles,
+                category: categoryToUse,
+                subCategory: galleryForm.subCategory,
+                caption: galleryForm.caption
+            }, setGalleryUploadStatus);
+            setShowGalleryModal(false);
+            setGalleryForm({ category: '', subCategory: '', caption: '' });
+            setSelectedFiles([]);
+            setNewCategory('');
+            setIsNewCategory(false);
+            fetchData();
         } catch (error) {
             console.error(error);
-            alert('Error adding gallery item');
+            alert(`Error adding gallery images: ${error.message}`);
+        } finally {
+            setGalleryUploadStatus('');
         }
     };
 
@@ -546,6 +547,23 @@ function AdminDashboard() {
                                 + Add {activeTab === 'matches' ? 'Match' : activeTab === 'players' ? 'Player' : activeTab === 'gallery' ? 'Image' : 'Achievement'}
                             </button>
                         )}
+                        {activeTab === 'join' && (
+                            // Streamed by the server, so the whole table never has to be loaded here
+                            <a
+                                href={`${API_URL}/api/export/registrations?format=csv`}
+                                download
+                                style={{
+                                    backgroundColor: '#7c3aed',
+                                    color: 'white',
+                                    padding: '0.6rem 1.2rem',
+                                    borderRadius: '6px',
+                                    textDecoration: 'none',
+                                    fontWeight: '600'
+                                }}
+                            >
+                                Export CSV
+                            </a>
+                        )}
                     </div>
 
                     {/* Search Bar for Players */}
@@ -831,7 +849,7 @@ function AdminDashboard() {
                                     .map(item => (
                                         <tr key={item.id} style={{ borderBottom: '1px solid #f3f4f6' }}>
                                             <td style={{ padding: '1rem', width: '120px' }}>
-                                                <img src={item.imageUrl ? (item.imageUrl.startsWith('http') ? item.imageUrl : API_URL + item.imageUrl) : ''} alt={item.caption} style={{ width: '100px', height: '60px', objectFit: 'cover', borderRadius: '4px' }} />
+                                                <img src={imageSrc(item.imageUrl, 'thumb')} alt={item.caption} style={{ width: '100px', height: '60px', objectFit: 'cover', borderRadius: '4px' }} />
                                             </td>
                                             <td style={{ padding: '1rem', fontWeight: '500' }}>{item.category}</td>
                                             <td style={{ padding: '1rem' }}>{item.subCategory || '-'}</td>
@@ -895,13 +913,10 @@ function AdminDashboard() {
                                     <td style={{ padding: '1rem' }}>{stats.championships}</td>
                                     <td style={{ padding: '1rem' }}>
                                         <button
-                                            onClick={() => {
-                                                setStatsForm(stats);
-                                                setShowStatsModal(true);
-                                            }}
+                                            onClick={handleStatsRebuild}
                                             style={{ padding: '0.4rem 0.8rem', backgroundColor: '#3b82f6', color: 'white', border: 'none', borderRadius: '4px', cursor: 'pointer', fontSize: '0.85rem' }}
                                         >
-                                            Edit
+                                            Recount
                                         </button>
                                     </td>
                                 </tr>
@@ -909,6 +924,15 @@ function AdminDashboard() {
                             }
                         </tbody >
                     </table >
+                    {
+                        cursors[activeList] && (
+                            <div style={{ textAlign: 'center', padding: '1rem' }}>
+                                <button onClick={() => loadMore(activeList)} style={{ padding: '0.5rem 1.5rem', backgroundColor: 'white', color: '#7c3aed', border: '1px solid #7c3aed', borderRadius: '4px', cursor: 'pointer', fontWeight: '600' }}>
+                                    Load more
+                                </button>
+                            </div>
+                        )
+                    }
                     {
                         ((activeTab === 'matches' && matches.length === 0) || (activeTab === 'players' && players.length === 0) || (activeTab === 'gallery' && galleryItems.length === 0)) && (
                             <div style={{ textAlign: 'center', padding: '2rem', color: '#6b7280' }}>
@@ -1033,48 +1057,6 @@ function AdminDashboard() {
                 )
             }
 
-            {/* STATS MODAL */}
-            {
-                showStatsModal && (
-                    <div style={{
-                        position: 'fixed', top: 0, left: 0, width: '100%', height: '100%',
-                        backgroundColor: 'rgba(0,0,0,0.5)', display: 'flex', justifyContent: 'center', alignItems: 'center'
-                    }}>
-                        <div style={{ backgroundColor: 'white', padding: '2rem', borderRadius: '8px', width: '90%', maxWidth: '500px' }}>
-                            <h3 style={{ marginBottom: '1.5rem', fontSize: '1.25rem', fontWeight: 'bold' }}>Update Club Stats</h3>
-                            <form onSubmit={handleStatsSubmit} style={{ display: 'flex', flexDirection: 'column', gap: '1rem' }}>
-                                <div>
-                                    <label style={{ display: 'block', marginBottom: '0.5rem', fontWeight: '500', color: '#374151' }}>Matches Won</label>
-                                    <input type="number" required
-                                        value={statsForm.matchesWon} onChange={e => setStatsForm({ ...statsForm, matchesWon: parseInt(e.target.value) || 0 })}
-                                        style={{ width: '100%', padding: '0.5rem', border: '1px solid #ddd', borderRadius: '4px' }}
-                                    />
-                                </div>
-                                <div>
-                                    <label style={{ display: 'block', marginBottom: '0.5rem', fontWeight: '500', color: '#374151' }}>Active Players</label>
-                                    <input type="number" required
-                                        value={statsForm.activePlayers} onChange={e => setStatsForm({ ...statsForm, activePlayers: parseInt(e.target.value) || 0 })}
-                                        style={{ width: '100%', padding: '0.5rem', border: '1px solid #ddd', borderRadius: '4px' }}
-                                    />
-                                </div>
-                                <div>
-                                    <label style={{ display: 'block', marginBottom: '0.5rem', fontWeight: '500', color: '#374151' }}>Championships</label>
-                                    <input type="number" required
-                                        value={statsForm.championships} onChange={e => setStatsForm({ ...statsForm, championships: parseInt(e.target.value) || 0 })}
-                                        style={{ width: '100%', padding: '0.5rem', border: '1px solid #ddd', borderRadius: '4px' }}
-                                    />
-                                </div>
-
-                                <div style={{ display: 'flex', gap: '1rem', marginTop: '1rem' }}>
-                                    <button type="submit" style={{ flex: 1, backgroundColor: '#7c3aed', color: 'white', padding: '0.75rem', border: 'none', borderRadius: '4px', cursor: 'pointer' }}>Update Stats</button>
-                                    <button type="button" onClick={() => setShowStatsModal(false)} style={{ flex: 1, backgroundColor: '#e5e7eb', color: 'black', padding: '0.75rem', border: 'none', borderRadius: '4px', cursor: 'pointer' }}>Cancel</button>
-                                </div>
-                            </form>
-                        </div>
-                    </div>
-                )
-            }
-
             {/* ACHIEVEMENT MODAL */}
             {
                 showAchievementModal && (
@@ -1177,8 +1159,8 @@ function AdminDashboard() {
                                     />
                                 </div>
 
-                                <input type="file" accept="image/*" required
-                                    onChange={e => setSelectedFile(e.target.files[0])}
+                                <input type="file" accept="image/*" multiple required
+                                    onChange={e => setSelectedFiles(Array.from(e.target.files))}
                                     style={{ padding: '0.5rem', border: '1px solid #ddd', borderRadius: '4px' }}
                                 />
                                 <input type="text" placeholder="Caption (Optional)"
@@ -1186,8 +1168,13 @@ function AdminDashboard() {
                                     style={{ padding: '0.5rem', border: '1px solid #ddd', borderRadius: '4px' }}
                                 />
 
+                                {galleryUploadStatus && (
+                                    <p style={{ fontSize: '0.85rem', color: '#666' }}>{galleryUploadStatus}</p>
+                                )}
                                 <div style={{ display: 'flex', gap: '1rem', marginTop: '1rem' }}>
-                                    <button type="submit" style={{ flex: 1, backgroundColor: '#7c3aed', color: 'white', padding: '0.75rem', border: 'none', borderRadius: '4px', cursor: 'pointer' }}>Add Image</button>
+                                    <button type="submit" disabled={!!galleryUploadStatus} style={{ flex: 1, backgroundColor: '#7c3aed', color: 'white', padding: '0.75rem', border: 'none', borderRadius: '4px', cursor: 'pointer' }}>
+                                        {selectedFiles.length > 1 ? `Add ${selectedFiles.length} Images` : 'Add Image'}
+                                    </button>
                                     <button type="button" onClick={() => setShowGalleryModal(false)} style={{ flex: 1, backgroundColor: '#e5e7eb', color: 'black', padding: '0.75rem', border: 'none', borderRadius: '4px', cursor: 'pointer' }}>Cancel</button>
                                 </div>
                             </form>
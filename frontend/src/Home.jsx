@@ -10,23 +10,23 @@ import AchievementsCarousel from './components/AchievementsCarousel';
 import { API_URL } from './config';
 
 function Home() {
-  const [healthCheck, setHealthCheck] = useState(null);
+  const [home, setHome] = useState(null);
   const [clubStats, setClubStats] = useState({ matchesWon: '50+', activePlayers: '120', championships: '5' });
   const [isMenuOpen, setIsMenuOpen] = useState(false);
   const [showAboutModal, setShowAboutModal] = useState(false);
 
   useEffect(() => {
-    fetch(`${API_URL}/api/health`)
-      .then(res => res.text())
-      .then(data => setHealthCheck(data))
-      .catch(() => setHealthCheck('Backend not running'));
-
-    fetch(`${API_URL}/api/stats`)
+    // One request for the whole landing page; the sections fetch on their own if this fails.
+    fetch(`${API_URL}/api/home`)
       .then(res => res.json())
       .then(data => {
-        if (data) setClubStats(data);
+        if (data && data.stats) setClubStats(data.stats);
+        setHome(data || {});
       })
-      .catch(err => console.error("Failed to fetch stats", err));
+      .catch(err => {
+        console.error("Failed to fetch home snapshot", err);
+        setHome({});
+      });
   }, []);
 
   const scrollToSection = (sectionId) => {
@@ -222,23 +222,23 @@ function Home() {
               </button>
             </div>
           </div>
-          <AchievementsCarousel />
+          {home && <AchievementsCarousel achievements={home.achievements} />}
         </div>
       </section>
 
       {/* Media Section */}
       <div id="media" style={{ paddingBottom: '2rem', scrollMarginTop: '5.5rem' }}>
-        <MediaSection />
+        {home && <MediaSection albums={home.albums} />}
       </div>
 
       {/* Matches Section */}
       <div id="matches" style={{ padding: '1.5rem 0', backgroundColor: '#f9fafb', scrollMarginTop: '5.5rem' }}>
-        <MatchSection />
+        {home && <MatchSection live={home.liveMatches} upcoming={home.upcomingMatches} recent={home.recentMatches} />}
       </div>
 
       {/* Team Section */}
       <div id="team" style={{ scrollMarginTop: '5.5rem' }}>
-        <PlayerSection />
+        {home && <PlayerSection players={home.players} />}
       </div>
 
       {/* Join Us Section */}
@@ -2,30 +2,33 @@ import { useRef, useState, useEffect } from 'react';
 import { API_URL } from '../config';
 import { ChevronLeft, ChevronRight, Trophy, Medal, Star, Award } from 'lucide-react';
 
-export default function AchievementsCarousel() {
+export default function AchievementsCarousel({ achievements: initialAchievements }) {
     const [achievements, setAchievements] = useState([]);
     const scrollRef = useRef(null);
 
+    // Map backend data to frontend structure with icons/colors
+    const decorate = (data) => data.map(item => {
+        let icon, color, border;
+        switch (item.type) {
+            case 'TROPHY': icon = <Trophy size={24} />; color = "#fef3c7"; border = "#f59e0b"; break;
+            case 'MEDAL': icon = <Medal size={24} />; color = "#e0f2fe"; border = "#0ea5e9"; break;
+            case 'STAR': icon = <Star size={24} />; color = "#dcfce7"; border = "#22c55e"; break;
+            case 'AWARD': icon = <Award size={24} />; color = "#f3e8ff"; border = "#a855f7"; break;
+            default: icon = <Trophy size={24} />; color = "#fef3c7"; border = "#f59e0b";
+        }
+        return { ...item, icon, color, border };
+    });
+
     useEffect(() => {
+        if (Array.isArray(initialAchievements)) {
+            setAchievements(decorate(initialAchievements));
+            return;
+        }
         fetch(API_URL + '/api/achievements')
             .then(res => res.json())
-            .then(data => {
-                // Map backend data to frontend structure with icons/colors
-                const mapped = data.map(item => {
-                    let icon, color, border;
-                    switch (item.type) {
-                        case 'TROPHY': icon = <Trophy size={24} />; color = "#fef3c7"; border = "#f59e0b"; break;
-                        case 'MEDAL': icon = <Medal size={24} />; color = "#e0f2fe"; border = "#0ea5e9"; break;
-                        case 'STAR': icon = <Star size={24} />; color = "#dcfce7"; border = "#22c55e"; break;
-                        case 'AWARD': icon = <Award size={24} />; color = "#f3e8ff"; border = "#a855f7"; break;
-                        default: icon = <Trophy size={24} />; color = "#fef3c7"; border = "#f59e0b";
-                    }
-                    return { ...item, icon, color, border };
-                });
-                setAchievements(mapped);
-            })
+            .then(data => setAchievements(decorate(data)))
             .catch(err => console.error("Error fetching achievements:", err));
-    }, []);
+    }, [initialAchievements]);
 
     const scroll = (direction) => {
         if (scrollRef.current) {
@@ -1,8 +1,9 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef, useCallback } from 'react';
 import { API_URL } from '../config';
+import { fetchPage } from '../pagination';
 import { Calendar, MapPin, Search, Filter, PlayCircle, X } from 'lucide-react';
 
-export default function MatchSection() {
+export default function MatchSection({ live, upcoming, recent }) {
     const [allMatches, setAllMatches] = useState([]);
     const [filteredMatches, setFilteredMatches] = useState([]);
     const [showConstructionModal, setShowConstructionModal] = useState(false);
@@ -12,63 +13,114 @@ export default function MatchSection() {
     const [statusFilter, setStatusFilter] = useState('All'); // All, Upcoming, Completed, Live
     const [showFilters, setShowFilters] = useState(false);
 
-    useEffect(() => {
-        fetch(API_URL + '/api/matches')
-            .then(res => res.json())
-            .then(data => {
-                if (Array.isArray(data)) {
-                    // Sort: Live, then Upcoming (asc), then Completed (desc)
-                    const live = data.filter(m => m.status === 'Live');
-                    const upcoming = data.filter(m => m.status === 'Upcoming').sort((a, b) => new Date(a.matchDate) - new Date(b.matchDate));
-                    const completed = data.filter(m => m.status === 'Completed').sort((a, b) => new Date(b.matchDate) - new Date(a.matchDate));
-
-                    const sortedFullList = [...live, ...upcoming, ...completed];
-                    setAllMatches(sortedFullList);
+    // The home snapshot only carries the fixtures needed for the default view. Searches and status
+    // filters are answered by the server a page at a time, so the full table is never downloaded.
+    const seeded = Array.isArray(upcoming);
+    const filtering = statusFilter !== 'All' || searchQuery.trim() !== '';
+    const [results, setResults] = useState([]);
+    const [cursor, setCursor] = useState(null);
+    const [loadingPage, setLoadingPage] = useState(false);
+    const sentinelRef = useRef(null);
+    const activeFilterRef = useRef(null);
 
-                    // Initial view: Priority Live -> Upcoming -> Completed (Limit 4 total)
-                    let initialView = [...live];
+    const filterPath = () => {
+        const params = new URLSearchParams();
+        if (statusFilter !== 'All') params.set('status', statusFilter);
+        if (searchQuery.trim()) params.set('q', searchQuery.trim());
+        return '/api/matches?' + params.toString();
+    };
 
-                    // Fill remaining slots with upcoming
-                    if (initialView.length < 4) {
-                        initialView = [...initialView, ...upcoming.slice(0, 4 - initialView.length)];
-                    }
+    useEffect(() => {
+        if (seeded) {
+            setAllMatches([...(live || []), ...upcoming, ...(recent || [])]);
+        } else {
+            // The first page is the cached snapshot; the default view only needs the newest fixtures
+            fetchPage('/api/matches')
+                .then(page => setAllMatches(Array.isArray(page.items) ? page.items : []))
+                .catch(err => {
+                    console.error("Error fetching matches:", err);
+                    setAllMatches([]);
+                });
+        }
+    }, [live, upcoming, recent]);
 
-                    // Fill remaining slots with completed
-                    if (initialView.length < 4) {
-                        initialView = [...initialView, ...completed.slice(0, 4 - initialView.length)];
-                    }
+    useEffect(() => {
+        activeFilterRef.current = filtering ? filterPath() : null;
+        setCursor(null);
+        if (!filtering) {
+            setResults([]);
+            return;
+        }
+        let cancelled = false;
+        // Wait for typing to pause before asking the server
+        const timer = setTimeout(() => {
+            setLoadingPage(true);
+            fetchPage(filterPath())
+                .then(page => {
+                    if (cancelled) return;
+                    setResults(page.items);
+                    setCursor(page.next);
+                })
+                .catch(err => console.error("Error fetching matches:", err))
+                .finally(() => setLoadingPage(false));
+        }, 250);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [statusFilter, searchQuery]);
 
-                    setFilteredMatches(initialView);
-                } else {
-                    setAllMatches([]);
-                }
+    const loadNextPage = useCallback(() => {
+        if (!filtering || !cursor || loadingPage) return;
+        const path = filterPath();
+        setLoadingPage(true);
+        fetchPage(path, cursor)
+            .then(page => {
+                // Ignore pages that arrive after the filters changed
+                if (activeFilterRef.current !== path) return;
+                setResults(prev => [...prev, ...page.items]);
+                setCursor(page.next);
             })
-            .catch(err => {
-                console.error("Error fetching matches:", err);
-                setAllMatches([]);
-            });
-    }, []);
+            .catch(err => console.error("Error fetching matches:", err))
+            .finally(() => setLoadingPage(false));
+    }, [filtering, cursor, loadingPage, statusFilter, searchQuery]);
 
-    // Effect to handle filtering
     useEffect(() => {
-        let result = allMatches;
+        const sentinel = sentinelRef.current;
+        if (!sentinel) return;
+        const observer = new IntersectionObserver(entries => {
+            if (entries[0].isIntersecting) loadNextPage();
+        }, { rootMargin: '400px' });
+        observer.observe(sentinel);
+        return () => observer.disconnect();
+    }, [loadNextPage]);
 
-        // 1. Filter by Status
-        if (statusFilter !== 'All') {
-            result = result.filter(match => match.status === statusFilter);
-        }
-
-        // 2. Filter by Search Query (Opponent or Venue)
-        if (searchQuery) {
-            const lowerQuery = searchQuery.toLowerCase();
-            result = result.filter(match =>
-                match.opponent.toLowerCase().includes(lowerQuery) ||
-                match.venue.toLowerCase().includes(lowerQuery)
-            );
-        }
+    // Live scores are pushed by the server; the browser reconnects (sending Last-Event-ID) on its own
+    useEffect(() => {
+        if (typeof EventSource === 'undefined') return;
+        const source = new EventSource(API_URL + '/api/matches/live/stream');
+        const upsert = (match) => {
+            setAllMatches(prev => (
+                prev.some(m => m.id === match.id)
+                    ? prev.map(m => (m.id === match.id ? match : m))
+                    : [match, ...prev]
+            ));
+            setResults(prev => prev.map(m => (m.id === match.id ? match : m)));
+        };
+        source.addEventListener('snapshot', e => JSON.parse(e.data).forEach(upsert));
+        source.addEventListener('update', e => upsert(JSON.parse(e.data)));
+        source.addEventListener('removed', e => {
+            const { id } = JSON.parse(e.data);
+            setAllMatches(prev => prev.filter(m => m.id !== id));
+            setResults(prev => prev.filter(m => m.id !== id));
+        });
+        return () => source.close();
+    }, []);
 
+    // Effect to handle filtering
+    useEffect(() => {
         // If no filters active, just show specific default view: Priority Live -> Upcoming -> Completed (Limit 4)
-        if (statusFilter === 'All' && searchQuery === '') {
+        if (!filtering) {
             const live = allMatches.filter(m => m.status === 'Live');
             const upcoming = allMatches.filter(m => m.status === 'Upcoming').sort((a, b) => new Date(a.matchDate) - new Date(b.matchDate));
             const completed = allMatches.filter(m => m.status === 'Completed').sort((a, b) => new Date(b.matchDate) - new Date(a.matchDate));
@@ -110,10 +162,11 @@ export default function MatchSection() {
 
             setFilteredMatches(defaultView);
         } else {
-            setFilteredMatches(result);
+            // Server order: most recently added first
+            setFilteredMatches(results);
         }
 
-    }, [searchQuery, statusFilter, allMatches]);
+    }, [filtering, results, allMatches]);
 
     return (
         <section className="container" style={{ padding: '4rem 0' }}>
@@ -259,6 +312,7 @@ export default function MatchSection() {
                     </div>
                 )}
             </div>
+            {filtering && <div ref={sentinelRef} style={{ height: '1px' }} />}
 
             {/* Show view all hints if filtered */}
             {statusFilter === 'All' && searchQuery === '' && allMatches.length > 5 && (
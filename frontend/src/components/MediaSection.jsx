@@ -1,53 +1,101 @@
-import { useState, useEffect } from 'react';
-import { API_URL } from '../config';
+import { useState, useEffect, useRef, useCallback } from 'react';
+import { API_URL, imageSrc } from '../config';
+import { fetchPage } from '../pagination';
 import { ChevronLeft, ChevronRight, Camera, X, Play } from 'lucide-react';
 
-export default function MediaSection() {
+export default function MediaSection({ albums: initialAlbums }) {
     const [lightbox, setLightbox] = useState({ isOpen: false, index: 0, images: [] });
     // This state controls the "album" view modal
     const [activeAlbum, setActiveAlbum] = useState(null);
+    const [albums, setAlbums] = useState([]);
     const [mediaGroups, setMediaGroups] = useState([]); // List of main Categories
 
+    const [albumImages, setAlbumImages] = useState([]);
+    const [cursor, setCursor] = useState(null);
+    const [hasMore, setHasMore] = useState(false);
+    const [loadingPage, setLoadingPage] = useState(false);
+    const sentinelRef = useRef(null);
+    const activeAlbumRef = useRef(null);
+
+    // Only album covers come with the page; an album's photos are paged in when it is opened
     useEffect(() => {
-        fetch(API_URL + '/api/gallery')
+        if (Array.isArray(initialAlbums)) {
+            setAlbums(initialAlbums);
+            return;
+        }
+        fetch(API_URL + '/api/home')
             .then(res => res.json())
-            .then(data => {
-                // 1. Group by Category
-                const groups = {};
-                data.forEach(item => {
-                    const cat = item.category || 'General';
-                    const sub = item.subCategory || 'General';
-                    const imageUrl = item.imageUrl.startsWith('http') ? item.imageUrl : API_URL + item.imageUrl;
+            .then(data => setAlbums(Array.isArray(data.albums) ? data.albums : []))
+            .catch(err => console.error("Error fetching gallery:", err));
+    }, [initialAlbums]);
 
-                    if (!groups[cat]) {
-                        groups[cat] = {
-                            title: cat,
-                            subCategories: {},
-                            coverImage: imageUrl // Default cover
-                        };
-                    }
+    useEffect(() => {
+        // Group albums by Category
+        const groups = {};
+        albums.forEach(album => {
+            const cat = album.category || 'General';
+            if (!groups[cat]) {
+                groups[cat] = { title: cat, subSessions: [] };
+            }
+            groups[cat].subSessions.push({
+                category: album.category,
+                subCategory: album.subCategory,
+                title: album.subCategory || 'General',
+                imageCount: album.imageCount,
+                coverUrl: imageSrc(album.coverImageUrl, 'card')
+            });
+        });
+        setMediaGroups(Object.values(groups));
+    }, [albums]);
 
-                    if (!groups[cat].subCategories[sub]) {
-                        groups[cat].subCategories[sub] = [];
-                    }
+    const openAlbum = (album) => {
+        activeAlbumRef.current = album;
+        setActiveAlbum(album);
+        setAlbumImages([]);
+        setCursor(null);
+        setHasMore(true);
+    };
 
-                    groups[cat].subCategories[sub].push({ url: imageUrl, caption: item.caption });
-                });
+    const closeAlbum = () => {
+        activeAlbumRef.current = null;
+        setActiveAlbum(null);
+    };
 
-                // Convert to array
-                const sessions = Object.values(groups).map(g => ({
-                    ...g,
-                    // Convert subCategories object to array for easier rendering
-                    subSessions: Object.keys(g.subCategories).map(subKey => ({
-                        title: subKey,
-                        images: g.subCategories[subKey]
-                    }))
+    const loadNextPage = useCallback(() => {
+        if (!activeAlbum || loadingPage || !hasMore) return;
+        const album = activeAlbum;
+        const path = '/api/gallery?category=' + encodeURIComponent(album.category)
+            + '&subCategory=' + encodeURIComponent(album.subCategory);
+        setLoadingPage(true);
+        fetchPage(path, cursor)
+            .then(page => {
+                // Ignore pages that arrive after the visitor switched albums
+                if (activeAlbumRef.current !== album) return;
+                const images = page.items.map(item => ({
+                    url: imageSrc(item.imageUrl),
+                    cardUrl: imageSrc(item.imageUrl, 'card'),
+                    caption: item.caption
                 }));
-
-                setMediaGroups(sessions);
+                setAlbumImages(prev => prev.concat(images));
+                setCursor(page.next);
+                setHasMore(Boolean(page.next));
             })
-            .catch(err => console.error("Error fetching gallery:", err));
-    }, []);
+            .catch(err => {
+                console.error("Error fetching album:", err);
+                setHasMore(false);
+            })
+            .finally(() => setLoadingPage(false));
+    }, [activeAlbum, cursor, hasMore, loadingPage]);
+
+    useEffect(() => {
+        const sentinel = sentinelRef.current;
+        if (!sentinel) return;
+        const observer = new IntersectionObserver(entries => {
+            if (entries[0].isIntersecting) loadNextPage();
+        }, { rootMargin: '400px' });
+        observer.observe(sentinel);
+        return () => observer.disconnect();
+    }, [loadNextPage]);
 
     // Open Lightbox
     const openLightbox = (images, index) => {
@@ -134,7 +182,7 @@ export default function MediaSection() {
                                 {group.subSessions.map((album, albumIdx) => (
                                     <div
                                         key={albumIdx}
-                                        onClick={() => setActiveAlbum(album)}
+                                        onClick={() => openAlbum(album)}
                                         style={{
                                             backgroundColor: '#1e293b',
                                             borderRadius: '20px',
@@ -159,7 +207,7 @@ export default function MediaSection() {
                                         {/* Image Container */}
                                         <div style={{ height: '220px', overflow: 'hidden', position: 'relative' }}>
                                             <img
-                                                src={album.images[0]?.url}
+                                                src={album.coverUrl}
                                                 alt={album.title}
                                                 style={{ width: '100%', height: '100%', objectFit: 'cover' }}
                                             />
@@ -178,7 +226,7 @@ export default function MediaSection() {
                                                 fontSize: '0.85rem', fontWeight: '600', color: 'white',
                                                 border: '1px solid rgba(255,255,255,0.1)'
                                             }}>
-                                                <Camera size={14} color="var(--secondary-color)" /> {album.images.length}
+                                                <Camera size={14} color="var(--secondary-color)" /> {album.imageCount}
                                             </div>
                                         </div>
 
@@ -213,10 +261,10 @@ export default function MediaSection() {
                         <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'center', marginBottom: '3rem', borderBottom: '1px solid #334155', paddingBottom: '1rem' }}>
                             <div>
                                 <h2 style={{ fontSize: '2.5rem', fontWeight: 'bold', color: 'white', marginBottom: '0.5rem' }}>{activeAlbum.title}</h2>
-                                <p style={{ color: '#94a3b8' }}>{activeAlbum.images.length} Photos</p>
+                                <p style={{ color: '#94a3b8' }}>{activeAlbum.imageCount} Photos</p>
                             </div>
                             <button
-                                onClick={() => setActiveAlbum(null)}
+                                onClick={closeAlbum}
                                 style={{ background: '#334155', border: 'none', borderRadius: '50%', color: 'white', padding: '12px', cursor: 'pointer', transition: 'background 0.2s' }}
                                 onMouseOver={(e) => e.target.style.background = '#475569'}
                                 onMouseOut={(e) => e.target.style.background = '#334155'}
@@ -227,10 +275,10 @@ export default function MediaSection() {
 
                         {/* Grid of Images in Album */}
                         <div style={{ display: 'grid', gridTemplateColumns: 'repeat(auto-fill, minmax(250px, 1fr))', gap: '1.5rem' }}>
-                            {activeAlbum.images.map((img, idx) => (
+                            {albumImages.map((img, idx) => (
                                 <div
                                     key={idx}
-                                    onClick={() => openLightbox(activeAlbum.images, idx)}
+                                    onClick={() => openLightbox(albumImages, idx)}
                                     style={{
                                         height: '250px',
                                         borderRadius: '12px',
@@ -249,7 +297,7 @@ export default function MediaSection() {
                                     }}
                                 >
                                     <img
-                                        src={img.url}
+                                        src={img.cardUrl}
                                         alt={img.caption}
                                         style={{ width: '100%', height: '100%', objectFit: 'cover', transition: 'transform 0.5s' }}
                                     />
@@ -269,6 +317,7 @@ export default function MediaSection() {
                                 </div>
                             ))}
                         </div>
+                        <div ref={sentinelRef} style={{ height: '1px' }} />
                     </div>
                 </div>
             )}
@@ -1,16 +1,20 @@
 import { useState, useEffect } from 'react';
-import { API_URL } from '../config';
+import { API_URL, imageSrc } from '../config';
 
-export default function PlayerSection() {
+export default function PlayerSection({ players: initialPlayers }) {
     const [players, setPlayers] = useState([]);
     const [flippedId, setFlippedId] = useState(null);
 
     useEffect(() => {
-        fetch(API_URL + '/api/players')
+        if (Array.isArray(initialPlayers)) {
+            setPlayers(initialPlayers);
+            return;
+        }
+        fetch(API_URL + '/api/players/approved')
             .then(res => res.json())
             .then(data => {
                 if (Array.isArray(data)) {
-                    setPlayers(data.filter(p => p.approved));
+                    setPlayers(data);
                 } else {
                     console.error("API returned non-array:", data);
                     setPlayers([]);
@@ -20,7 +24,7 @@ export default function PlayerSection() {
                 console.error(err);
                 setPlayers([]);
             });
-    }, []);
+    }, [initialPlayers]);
 
     const handleCardClick = (id) => {
         setFlippedId(flippedId === id ? null : id);
@@ -45,7 +49,7 @@ export default function PlayerSection() {
                                     <div className="flip-card-front">
                                         <div style={{ height: '75%', position: 'relative' }}>
                                             <img
-                                                src={player.imageUrl ? (player.imageUrl.startsWith('http') ? player.imageUrl : API_URL + player.imageUrl) : 'https://via.placeholder.com/300x300?text=Player'}
+                                                src={player.imageUrl ? imageSrc(player.imageUrl, 'card') : 'https://via.placeholder.com/300x300?text=Player'}
                                                 alt={player.name}
                                                 style={{ width: '100%', height: '100%', objectFit: 'cover' }}
                                                 onError={(e) => { e.target.onerror = null; e.target.src = 'https://via.placeholder.com/300x300?text=No+Image'; }}
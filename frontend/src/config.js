@@ -1 +1,9 @@
 export const API_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
+
+// Resolves an image URL from the API, optionally asking for a smaller rendition (thumb, card, full)
+export const imageSrc = (url, rendition) => {
+    if (!url) return '';
+    if (url.startsWith('http')) return url;
+    if (!rendition) return API_URL + url;
+    return API_URL + url + (url.includes('?') ? '&' : '?') + 'r=' + rendition;
+};
@@ -0,0 +1,24 @@
+import { API_URL } from './config';
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// Image uploads answer 202 with a job; poll it until the upload has been processed and saved
+export const waitForJob = async (job, intervalMs = 700) => {
+    let current = job;
+    while (current.status === 'QUEUED' || current.status === 'PROCESSING') {
+        await sleep(intervalMs);
+        const res = await fetch(`${API_URL}/api/jobs/${job.id}`);
+        if (!res.ok) throw new Error(`Upload job ${job.id} could not be read (${res.status})`);
+        current = await res.json();
+    }
+    if (current.status === 'FAILED') throw new Error(current.error || 'Upload processing failed');
+    return current;
+};
+
+// Resolves once the save is complete, whether the server answered straight away or with a job
+export const completeUpload = async (res) => {
+    if (res.status === 202) {
+        return waitForJob(await res.json());
+    }
+    return res;
+};
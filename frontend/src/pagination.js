@@ -0,0 +1,12 @@
+import { API_URL } from './config';
+
+// List endpoints answer { items, next }; pass `next` back as the cursor to get the following page
+export const fetchPage = async (path, cursor, limit) => {
+    const params = new URLSearchParams();
+    if (cursor) params.set('cursor', cursor);
+    if (limit) params.set('limit', limit);
+    const query = params.toString();
+    const res = await fetch(API_URL + path + (query ? (path.includes('?') ? '&' : '?') + query : ''));
+    if (!res.ok) throw new Error(`Request to ${path} failed with ${res.status}`);
+    return res.json();
+};
@@ -0,0 +1,91 @@
+import { API_URL } from './config';
+import { waitForJob } from './jobs';
+
+const PARALLEL_CHUNKS = 3;
+const RETRIES = 5;
+
+const sleep = (ms) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// Hex SHA-256 so the server can check each file arrived intact; skipped where Web Crypto is unavailable (plain http)
+const sha256 = async (file) => {
+    if (!window.crypto?.subtle) return null;
+    const digest = await window.crypto.subtle.digest('SHA-256', await file.arrayBuffer());
+    return Array.from(new Uint8Array(digest)).map((b) => b.toString(16).padStart(2, '0')).join('');
+};
+
+const json = async (res, what) => {
+    if (!res.ok) {
+        const body = await res.json().catch(() => ({}));
+        throw new Error(body.message || `${what} failed with ${res.status}`);
+    }
+    return res.json();
+};
+
+// Sends one chunk, retrying with backoff so a flaky connection only costs that chunk
+const putChunk = async (uploadId, index, file, offset, size) => {
+    for (let attempt = 1; ; attempt++) {
+        let res;
+        try {
+            res = await fetch(`${API_URL}/api/uploads/${uploadId}/files/${index}?offset=${offset}`, {
+                method: 'PUT',
+                headers: { 'Content-Type': 'application/octet-stream' },
+                body: file.slice(offset, offset + size)
+            });
+        } catch (error) {
+            if (attempt >= RETRIES) throw error;
+        }
+        if (res?.ok) return;
+        if (res && (res.status < 500 || attempt >= RETRIES)) {
+            throw new Error(`Chunk at ${offset} of ${file.name} failed with ${res.status}`);
+        }
+        await sleep(500 * 2 ** attempt);
+    }
+};
+
+/**
+ * Uploads a batch of images to one gallery album through the resumable chunked API and resolves with the
+ * finished job once the gallery rows exist. onProgress receives a short status line.
+ */
+export const uploadGalleryBatch = async ({ files, category, subCategory, caption }, onProgress = () => {}) => {
+    const specs = [];
+    for (const file of files) {
+        onProgress(`Checking ${file.name}…`);
+        specs.push({ name: file.name, size: file.size, contentType: file.type, sha256: await sha256(file) });
+    }
+
+    let upload = await json(await fetch(`${API_URL}/api/uploads`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ category, subCategory, caption, files: specs })
+    }), 'Starting the upload');
+
+    const total = files.reduce((sum, file) => sum + file.size, 0);
+    // Whatever the server still misses is sent again, so a pass that lost chunks is followed by another
+    for (let pass = 0; pass < 3; pass++) {
+        const chunks = [];
+        upload.files.forEach((state, index) => {
+            state.missing.forEach(([start, end]) => {
+                for (let offset = start; offset < end; offset += upload.chunkSize) {
+                    chunks.push({ index, offset, size: Math.min(upload.chunkSize, end - offset) });
+                }
+            });
+        });
+        if (chunks.length === 0) break;
+
+        let sent = upload.files.reduce((sum, state) => sum + state.received, 0);
+        const worker = async () => {
+            for (let chunk = chunks.shift(); chunk; chunk = chunks.shift()) {
+                await putChunk(upload.id, chunk.index, files[chunk.index], chunk.offset, chunk.size);
+                sent += chunk.size;
+                onProgress(`Uploading… ${Math.round((100 * sent) / total)}%`);
+            }
+        };
+        await Promise.allSettled(Array.from({ length: PARALLEL_CHUNKS }, worker));
+        upload = await json(await fetch(`${API_URL}/api/uploads/${upload.id}`), 'Checking the upload');
+    }
+
+    onProgress('Processing images…');
+    const job = await json(await fetch(`${API_URL}/api/uploads/${upload.id}/finalize`, { method: 'POST' }),
+        'Finishing the upload');
+    return waitForJob(job);
+};